@@ -50,4 +50,15 @@ public class Board {
     @Column
     private String replyContents;
 
+    //좋아요수는 BoardLikeCounter 에서 모아서 쿼리로만 반영(엔티티 저장시에는 변경하지 않음)
+    @Column(insertable = false, updatable = false)
+    private long likeCount;
+
+    //조회수/고유 조회자수는 BoardHitCounter 에서 모아서 반영
+    @Column(insertable = false, updatable = false)
+    private long hits;
+
+    @Column(insertable = false, updatable = false)
+    private long uniqueViewerCount;
+
 }
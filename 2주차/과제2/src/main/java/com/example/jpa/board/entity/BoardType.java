@@ -31,4 +31,8 @@ public class BoardType {
     @Column
     private boolean usingYn;
 
+    //게시글 등록/삭제시 쿼리로만 증감(엔티티 저장시에는 변경하지 않음)
+    @Column(insertable = false, updatable = false)
+    private long boardCount;
+
 }
@@ -0,0 +1,32 @@
+package com.example.jpa.board.model;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class BoardActivity {
+
+    private BoardActivityType type;
+    private long id;
+    private long boardId;
+    private String title;
+    private LocalDateTime regDate;
+
+    //JPQL 생성자 표현식용
+    public BoardActivity(String type, long id, long boardId, String title, LocalDateTime regDate) {
+        this.type = BoardActivityType.valueOf(type);
+        this.id = id;
+        this.boardId = boardId;
+        this.title = title;
+        this.regDate = regDate;
+    }
+
+}
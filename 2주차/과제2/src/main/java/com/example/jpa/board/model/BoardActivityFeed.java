@@ -0,0 +1,22 @@
+package com.example.jpa.board.model;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class BoardActivityFeed {
+
+    private List<BoardActivity> list;
+
+    //다음 페이지 조회용 커서(마지막 페이지이면 null)
+    private String nextCursor;
+
+}
@@ -0,0 +1,13 @@
+package com.example.jpa.board.model;
+
+/**
+ * 활동내역 종류(선언 순서가 같은 시간의 정렬 순서)
+ */
+public enum BoardActivityType {
+
+    POST,
+    COMMENT,
+    SCRAP,
+    BOOKMARK
+
+}
@@ -2,9 +2,21 @@ package com.example.jpa.board.repository;
 
 import com.example.jpa.board.entity.BoardBookmark;
 import com.example.jpa.board.entity.BoardScrap;
+import com.example.jpa.board.model.BoardActivity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface BoardBookmarkRepository extends JpaRepository<BoardBookmark, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
 
+public interface BoardBookmarkRepository extends JpaRepository<BoardBookmark, Long> {
 
+    /**
+     * 활동내역 키셋 조회(regDate, id 보다 이전 목록)
+     */
+    @Query(" select new com.example.jpa.board.model.BoardActivity('BOOKMARK', bm.id, bm.boardId, bm.boardTitle, bm.regDate) from BoardBookmark bm "
+            + " where bm.user.id = :userId and (bm.regDate < :regDate or (bm.regDate = :regDate and bm.id < :id)) "
+            + " order by bm.regDate desc, bm.id desc ")
+    List<BoardActivity> findActivity(long userId, LocalDateTime regDate, long id, Pageable pageable);
 }
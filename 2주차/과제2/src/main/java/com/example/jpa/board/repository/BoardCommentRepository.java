@@ -3,9 +3,13 @@ package com.example.jpa.board.repository;
 import com.example.jpa.board.entity.Board;
 import com.example.jpa.board.entity.BoardComment;
 import com.example.jpa.board.entity.BoardLike;
+import com.example.jpa.board.model.BoardActivity;
 import com.example.jpa.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +18,13 @@ public interface BoardCommentRepository extends JpaRepository<BoardComment, Long
 
     List<BoardComment> findByUser(User user);
 
+    List<BoardComment> findByUserId(long userId);
+
+    /**
+     * 활동내역 키셋 조회(regDate, id 보다 이전 목록)
+     */
+    @Query(" select new com.example.jpa.board.model.BoardActivity('COMMENT', c.id, c.board.id, c.comments, c.regDate) from BoardComment c "
+            + " where c.user.id = :userId and (c.regDate < :regDate or (c.regDate = :regDate and c.id < :id)) "
+            + " order by c.regDate desc, c.id desc ")
+    List<BoardActivity> findActivity(long userId, LocalDateTime regDate, long id, Pageable pageable);
 }
@@ -0,0 +1,105 @@
+package com.example.jpa.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Repository
+public class BoardCustomRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글별 좋아요수 증감을 JDBC 배치로 반영
+     * - list 의 각 항목은 {게시글ID, 증감값}
+     */
+    public void batchIncreaseLikeCount(List<long[]> list) {
+
+        String sql = " update board set like_count = like_count + ? where id = ? ";
+
+        jdbcTemplate.batchUpdate(sql, list, list.size(), (ps, e) -> {
+            ps.setLong(1, e[1]);
+            ps.setLong(2, e[0]);
+        });
+    }
+
+    /**
+     * 게시글별 좋아요수를 원본 테이블 기준으로 다시 집계
+     */
+    public int reconcileLikeCount() {
+
+        String sql = " update board b "
+                + " set like_count = (select count(*) from board_like bl where bl.board_id = b.id) ";
+
+        return jdbcTemplate.update(sql);
+    }
+
+    /**
+     * 게시글별 조회수 증감을 JDBC 배치로 반영
+     * - list 의 각 항목은 {게시글ID, 증감값}
+     */
+    public void batchIncreaseHits(List<long[]> list) {
+
+        String sql = " update board set hits = hits + ? where id = ? ";
+
+        jdbcTemplate.batchUpdate(sql, list, list.size(), (ps, e) -> {
+            ps.setLong(1, e[1]);
+            ps.setLong(2, e[0]);
+        });
+    }
+
+    /**
+     * 게시글별 조회자 스케치(HyperLogLog 레지스터) 조회
+     */
+    public Map<Long, byte[]> findHitSketch(List<Long> boardIdList) {
+
+        Map<Long, byte[]> result = new HashMap<>();
+        if (boardIdList.isEmpty()) {
+            return result;
+        }
+
+        String sql = " select board_id, sketch from board_hit_sketch where board_id in ("
+                + boardIdList.stream().map(e -> "?").collect(Collectors.joining(",")) + ") ";
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> result.put(rs.getLong(1), rs.getBytes(2)), boardIdList.toArray());
+        return result;
+    }
+
+    /**
+     * 게시글별 조회자 스케치와 고유 조회자수 저장
+     */
+    public void saveHitSketch(long boardId, byte[] sketch, long uniqueViewerCount) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int count = jdbcTemplate.update(" update board_hit_sketch set sketch = ?, update_date = ? where board_id = ? "
+                , sketch, now, boardId);
+        if (count < 1) {
+            jdbcTemplate.update(" insert into board_hit_sketch (board_id, sketch, update_date) values (?, ?, ?) "
+                    , boardId, sketch, now);
+        }
+
+        jdbcTemplate.update(" update board set unique_viewer_count = ? where id = ? ", uniqueViewerCount, boardId);
+    }
+
+    /**
+     * 스케치가 없는 게시글의 기존 조회 기록(board_hits)을 게시글ID 순으로 조회
+     */
+    public void findLegacyHits(RowCallbackHandler handler) {
+
+        String sql = " select h.board_id, h.user_id from board_hits h "
+                + " where not exists (select 1 from board_hit_sketch s where s.board_id = h.board_id) "
+                + " order by h.board_id ";
+
+        jdbcTemplate.query(sql, handler);
+    }
+}
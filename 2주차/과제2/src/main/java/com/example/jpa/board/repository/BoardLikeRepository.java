@@ -1,15 +1,33 @@
 package com.example.jpa.board.repository;
 
 import com.example.jpa.board.entity.Board;
-import com.example.jpa.board.entity.BoardHits;
 import com.example.jpa.board.entity.BoardLike;
 import com.example.jpa.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface BoardLikeRepository extends JpaRepository<BoardLike, Long> {
 
     long countByBoardAndUser(Board board, User user);
     Optional<BoardLike> findByBoardAndUser(Board board, User user);
+
+    /**
+     * 게시글이 존재하면 좋아요 추가(게시글이 없으면 0 리턴)
+     * - 이미 좋아요한 경우는 (board_id, user_id) 유니크 제약조건 위반
+     */
+    @Transactional
+    @Modifying
+    @Query(value = " insert into board_like (board_id, user_id, reg_date) "
+            + " select b.id, :userId, :now from board b where b.id = :boardId ", nativeQuery = true)
+    int insertLike(long boardId, long userId, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(" delete from BoardLike bl where bl.board.id = :boardId and bl.user.id = :userId ")
+    int deleteLike(long boardId, long userId);
 }
@@ -2,9 +2,13 @@ package com.example.jpa.board.repository;
 
 import com.example.jpa.board.entity.Board;
 import com.example.jpa.board.entity.BoardType;
+import com.example.jpa.board.model.BoardActivity;
 import com.example.jpa.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
@@ -13,4 +17,13 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
     List<Board> findByUser(User user);
 
+    List<Board> findByUserId(long userId);
+
+    /**
+     * 활동내역 키셋 조회(regDate, id 보다 이전 목록)
+     */
+    @Query(" select new com.example.jpa.board.model.BoardActivity('POST', b.id, b.id, b.title, b.regDate) from Board b "
+            + " where b.user.id = :userId and (b.regDate < :regDate or (b.regDate = :regDate and b.id < :id)) "
+            + " order by b.regDate desc, b.id desc ")
+    List<BoardActivity> findActivity(long userId, LocalDateTime regDate, long id, Pageable pageable);
 }
@@ -2,9 +2,21 @@ package com.example.jpa.board.repository;
 
 import com.example.jpa.board.entity.BoardBadReport;
 import com.example.jpa.board.entity.BoardScrap;
+import com.example.jpa.board.model.BoardActivity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
-public interface BoardScrapRepository extends JpaRepository<BoardScrap, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
 
+public interface BoardScrapRepository extends JpaRepository<BoardScrap, Long> {
 
+    /**
+     * 활동내역 키셋 조회(regDate, id 보다 이전 목록)
+     */
+    @Query(" select new com.example.jpa.board.model.BoardActivity('SCRAP', s.id, s.boardId, s.boardTitle, s.regDate) from BoardScrap s "
+            + " where s.user.id = :userId and (s.regDate < :regDate or (s.regDate = :regDate and s.id < :id)) "
+            + " order by s.regDate desc, s.id desc ")
+    List<BoardActivity> findActivity(long userId, LocalDateTime regDate, long id, Pageable pageable);
 }
@@ -1,17 +1,16 @@
 package com.example.jpa.board.repository;
 
 import com.example.jpa.board.model.BoardTypeCount;
-import com.example.jpa.user.model.UserLogCount;
-import com.example.jpa.user.model.UserNoticeCount;
 import lombok.RequiredArgsConstructor;
-import org.qlrm.mapper.JpaResultMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
-import javax.persistence.Query;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 게시판별 게시글수는 board_type.board_count 에 미리 집계된 값을 조회
+ */
 @RequiredArgsConstructor
 @Repository
 public class BoardTypeCustomRepository {
@@ -21,29 +20,24 @@ public class BoardTypeCustomRepository {
 
     public List<BoardTypeCount> getBoardTypeCount() {
 
-        String sql = " select bt.id, bt.board_name, bt.reg_date, bt.using_yn "
-                + ", (select count(*) from board b where b.board_type_id = bt.id) as board_count "
-                + " from board_type bt ";
-
-        // - X
-        //List<BoardTypeCount> list = entityManager.createNativeQuery(sql).getResultList();
-
-        /*
-        List<Object[]> result = entityManager.createNativeQuery(sql).getResultList();
-        List<BoardTypeCount> resultList = result.stream().map(e-> new BoardTypeCount(e))
-                .collect(Collectors.toList());
-
-         */
-
-
-        Query nativeQuery = entityManager.createNativeQuery(sql);
-        JpaResultMapper jpaResultMapper = new JpaResultMapper();
-        List<BoardTypeCount> resultList = jpaResultMapper.list(nativeQuery, BoardTypeCount.class);
+        String jpql = " select new com.example.jpa.board.model.BoardTypeCount(bt.id, bt.boardName, bt.regDate, bt.usingYn, bt.boardCount) "
+                + " from BoardType bt "
+                + " order by bt.id ";
 
+        return entityManager.createQuery(jpql, BoardTypeCount.class)
+                .getResultList();
+    }
 
+    /**
+     * 게시판별 게시글수를 원본 테이블 기준으로 다시 집계
+     */
+    @Transactional
+    public int reconcileBoardCount() {
 
-        return resultList;
+        String sql = " update board_type bt "
+                + " set board_count = (select count(*) from board b where b.board_type_id = bt.id) ";
 
+        return entityManager.createNativeQuery(sql).executeUpdate();
     }
 
 }
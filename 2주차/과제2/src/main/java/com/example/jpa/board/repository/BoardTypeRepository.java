@@ -2,9 +2,17 @@ package com.example.jpa.board.repository;
 
 import com.example.jpa.board.entity.BoardType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface BoardTypeRepository extends JpaRepository<BoardType, Long> {
 
     BoardType findByBoardName(String name);
 
+    @Transactional
+    @Modifying
+    @Query(" update BoardType bt set bt.boardCount = bt.boardCount + :count where bt.id = :id ")
+    int increaseBoardCount(long id, long count);
+
 }
@@ -0,0 +1,142 @@
+package com.example.jpa.board.service;
+
+import com.example.jpa.board.repository.BoardCustomRepository;
+import com.example.jpa.util.CountBuffer;
+import com.example.jpa.util.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수/고유 조회자수 집계
+ * - 최근 30분 이내 같은 회원의 조회는 정확히 중복 제거(메모리, 최대 건수 제한)
+ * - 고유 조회자수는 게시글별 HyperLogLog 로 근사하고, 게시글당 스케치 1건만 저장
+ * - 조회시에는 메모리에만 기록하고 스케쥴러에서 모아서 반영
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardHitCounter {
+
+    private static final int PRECISION = 12;
+    private static final long RECENT_WINDOW_MILLIS = 1000 * 60 * 30;
+    private static final int RECENT_MAX_SIZE = 100000;
+    private static final int BATCH_SIZE = 500;
+
+    private final BoardCustomRepository boardCustomRepository;
+
+    private final CountBuffer hitBuffer = new CountBuffer();
+
+    //마지막 반영 이후에 추가된 조회자 스케치
+    private final Map<Long, HyperLogLog> sketchMap = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> recentMap = new LinkedHashMap<String, Long>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > RECENT_MAX_SIZE
+                    || eldest.getValue() <= System.currentTimeMillis() - RECENT_WINDOW_MILLIS;
+        }
+    };
+
+
+    /**
+     * 조회 기록, 최근에 같은 회원이 조회한 경우는 false 리턴
+     */
+    public boolean hit(long boardId, long userId) {
+
+        long now = System.currentTimeMillis();
+        String key = boardId + ":" + userId;
+
+        synchronized (recentMap) {
+            Long lastDate = recentMap.get(key);
+            if (lastDate != null && lastDate > now - RECENT_WINDOW_MILLIS) {
+                return false;
+            }
+            //삽입 순서를 최신으로 갱신
+            recentMap.remove(key);
+            recentMap.put(key, now);
+        }
+
+        hitBuffer.add(boardId, 1);
+        sketchMap.compute(boardId, (k, v) -> {
+            HyperLogLog sketch = v == null ? new HyperLogLog(PRECISION) : v;
+            sketch.add(userId);
+            return sketch;
+        });
+        return true;
+    }
+
+    @PreDestroy
+    public synchronized void flush() {
+
+        List<long[]> list = hitBuffer.drain();
+        for (int i = 0; i < list.size(); i += BATCH_SIZE) {
+            List<long[]> subList = list.subList(i, Math.min(i + BATCH_SIZE, list.size()));
+            try {
+                boardCustomRepository.batchIncreaseHits(subList);
+            } catch (Exception e) {
+                log.info("게시글 조회수 반영 에러:" + e.getMessage());
+                hitBuffer.restore(list.subList(i, list.size()));
+                break;
+            }
+        }
+
+        Map<Long, HyperLogLog> sketches = new HashMap<>();
+        for (Long boardId : sketchMap.keySet()) {
+            HyperLogLog sketch = sketchMap.remove(boardId);
+            if (sketch != null) {
+                sketches.put(boardId, sketch);
+            }
+        }
+
+        List<Long> boardIdList = new ArrayList<>(sketches.keySet());
+        for (int i = 0; i < boardIdList.size(); i += BATCH_SIZE) {
+            List<Long> subList = boardIdList.subList(i, Math.min(i + BATCH_SIZE, boardIdList.size()));
+            try {
+                saveSketch(subList, sketches);
+            } catch (Exception e) {
+                log.info("게시글 조회자 스케치 반영 에러:" + e.getMessage());
+                boardIdList.subList(i, boardIdList.size()).forEach(boardId ->
+                        sketchMap.merge(boardId, sketches.get(boardId), (a, b) -> { a.merge(b); return a; }));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 스케치가 없는 게시글의 기존 board_hits 기록을 스케치와 조회수로 옮김
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void importLegacyHits() {
+
+        Map<Long, HyperLogLog> sketches = new HashMap<>();
+        boardCustomRepository.findLegacyHits(rs -> {
+            long boardId = rs.getLong(1);
+            hitBuffer.add(boardId, 1);
+            sketches.computeIfAbsent(boardId, k -> new HyperLogLog(PRECISION)).add(rs.getLong(2));
+        });
+
+        sketches.forEach((boardId, sketch) ->
+                sketchMap.merge(boardId, sketch, (a, b) -> { a.merge(b); return a; }));
+        flush();
+
+        log.info("게시글 기존 조회기록 이관: " + sketches.size());
+    }
+
+    private void saveSketch(List<Long> boardIdList, Map<Long, HyperLogLog> sketches) {
+
+        Map<Long, byte[]> storedMap = boardCustomRepository.findHitSketch(boardIdList);
+
+        for (Long boardId : boardIdList) {
+            HyperLogLog sketch = HyperLogLog.of(PRECISION, storedMap.get(boardId));
+            sketch.merge(sketches.get(boardId));
+            boardCustomRepository.saveHitSketch(boardId, sketch.toByteArray(), sketch.estimate());
+        }
+    }
+}
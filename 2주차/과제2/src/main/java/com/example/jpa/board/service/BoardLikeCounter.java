@@ -0,0 +1,108 @@
+package com.example.jpa.board.service;
+
+import com.example.jpa.board.repository.BoardCustomRepository;
+import com.example.jpa.util.CountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 게시글 좋아요수(board.like_count) 지연 반영
+ * - 좋아요/취소시 메모리 버퍼에 증감만 기록하고, 스케쥴러에서 게시글별로 합산하여 한번에 반영
+ * - 인기 게시글에 좋아요가 몰려도 게시글 행에 대한 update 는 주기당 1회
+ * - 좋아요 행 변경과 증감 기록은 읽기 잠금, 재집계(반영 + 원본 기준 집계)는 쓰기 잠금으로 실행
+ *   (재집계 중에 변경된 좋아요가 집계와 다음 반영에서 두번 더해지지 않도록)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardLikeCounter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final BoardCustomRepository boardCustomRepository;
+
+    private final CountBuffer buffer = new CountBuffer();
+
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+
+    /**
+     * 좋아요 행 추가(change)가 성공한 경우만 +1 기록
+     */
+    public boolean increase(long boardId, BooleanSupplier change) {
+        return record(boardId, 1, change);
+    }
+
+    /**
+     * 좋아요 행 삭제(change)가 성공한 경우만 -1 기록
+     */
+    public boolean decrease(long boardId, BooleanSupplier change) {
+        return record(boardId, -1, change);
+    }
+
+    private boolean record(long boardId, long delta, BooleanSupplier change) {
+
+        lock.readLock().lock();
+        try {
+            if (!change.getAsBoolean()) {
+                return false;
+            }
+            buffer.add(boardId, delta);
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 증감값
+     */
+    public long pending(long boardId) {
+        return buffer.get(boardId);
+    }
+
+    @PreDestroy
+    public synchronized void flush() {
+
+        List<long[]> list = buffer.drain();
+        for (int i = 0; i < list.size(); i += BATCH_SIZE) {
+            List<long[]> subList = list.subList(i, Math.min(i + BATCH_SIZE, list.size()));
+            try {
+                boardCustomRepository.batchIncreaseLikeCount(subList);
+            } catch (Exception e) {
+                log.info("게시글 좋아요수 반영 에러:" + e.getMessage());
+                buffer.restore(list.subList(i, list.size()));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 버퍼를 반영한 후 원본 기준으로 다시 집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+
+        lock.writeLock().lock();
+        try {
+            flush();
+            //버퍼에 남은 값(반영 실패)은 원본 기준 집계에 이미 포함되므로 버림
+            buffer.drain();
+
+            int count = boardCustomRepository.reconcileLikeCount();
+            log.info("게시글 좋아요수 재계산: " + count);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -28,6 +28,11 @@ public interface BoardService {
      */
     List<BoardTypeCount> getBoardTypeCount();
 
+    /**
+     * 게시판타입의 게시글 수를 원본 기준으로 보정
+     */
+    void reconcileBoardTypeCount();
+
     /**
      * 게시글을 최상단에 배치함
      */
@@ -93,6 +98,11 @@ public interface BoardService {
      */
     List<BoardComment> commentList(String email);
 
+    /**
+     * 내 게시글/코멘트/스크랩/북마크를 최신순으로 합친 활동내역 리턴(커서 페이징)
+     */
+    BoardActivityFeed activityFeed(long userId, String cursor, int size);
+
     /**
      * 게시글 상세정보
      */
@@ -4,37 +4,58 @@ import com.example.jpa.board.entity.*;
 import com.example.jpa.board.model.*;
 import com.example.jpa.board.repository.*;
 import com.example.jpa.common.MailComponent;
+import com.example.jpa.common.UserPrincipalCache;
 import com.example.jpa.common.exception.BizException;
 import com.example.jpa.common.model.ResponseResult;
 import com.example.jpa.mail.entity.MailTemplate;
 import com.example.jpa.mail.repository.MailTemplateRepository;
-import com.example.jpa.user.entity.User;
+import com.example.jpa.user.model.UserPrincipal;
 import com.example.jpa.user.repository.UserRepository;
 import jdk.internal.joptsimple.internal.OptionNameMap;
 import jdk.vm.ci.meta.Local;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.hibernate.dialect.lock.OptimisticEntityLockException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BoardServiceImpl implements BoardService {
 
+    private static final int DEFAULT_ACTIVITY_SIZE = 20;
+    private static final int MAX_ACTIVITY_SIZE = 100;
+
+    //첫 페이지 조회용 커서값
+    private static final LocalDateTime MAX_REG_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final Comparator<BoardActivity> ACTIVITY_ORDER =
+            Comparator.comparing(BoardActivity::getRegDate).reversed()
+                    .thenComparing(BoardActivity::getType)
+                    .thenComparing(Comparator.comparingLong(BoardActivity::getId).reversed());
+
     private final BoardTypeRepository boardTypeRepository;
     private final BoardTypeCustomRepository boardTypeCustomRepository;
     private final BoardRepository boardRepository;
-    private final BoardHitsRepository boardHitsRepository;
     private final BoardLikeRepository boardLikeRepository;
     private final BoardBadReportRepository boardBadReportRepository;
     private final BoardScrapRepository boardScrapRepository;
     private final BoardBookmarkRepository boardBookmarkRepository;
     private final BoardCommentRepository boardCommentRepository;
+    private final BoardLikeCounter boardLikeCounter;
+    private final BoardHitCounter boardHitCounter;
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     private final MailComponent mailComponent;
     private final MailTemplateRepository mailTemplateRepository;
@@ -124,6 +145,14 @@ public class BoardServiceImpl implements BoardService {
         return boardTypeCustomRepository.getBoardTypeCount();
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    public void reconcileBoardTypeCount() {
+
+        int count = boardTypeCustomRepository.reconcileBoardCount();
+        log.info("게시판별 게시글수 재계산: " + count);
+    }
+
     @Override
     public ServiceResult setBoardTop(Long id, boolean topYn) {
 
@@ -166,81 +195,58 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public ServiceResult setBoardHits(Long id, String email) {
 
-        Optional<Board> optionalBoard = boardRepository.findById(id);
-        if (!optionalBoard.isPresent()) {
+        if (!boardRepository.existsById(id)) {
             return ServiceResult.fail("게시글이 존재하지 않습니다.");
         }
-        Board board = optionalBoard.get();
 
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             return ServiceResult.fail("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
-
-        if (boardHitsRepository.countByBoardAndUser(board, user) > 0) {
+        if (!boardHitCounter.hit(id, user.getId())) {
             return ServiceResult.fail("이미 조회수가 있습니다.");
         }
-
-        boardHitsRepository.save(BoardHits.builder()
-                .board(board)
-                .user(user)
-                .regDate(LocalDateTime.now())
-                .build());
         return ServiceResult.success();
     }
 
     @Override
     public ServiceResult setBoardLike(Long id, String email) {
 
-        Optional<Board> optionalBoard = boardRepository.findById(id);
-        if (!optionalBoard.isPresent()) {
-            return ServiceResult.fail("게시글이 존재하지 않습니다.");
-        }
-        Board board = optionalBoard.get();
-
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             return ServiceResult.fail("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
-        long boardLikeCount = boardLikeRepository.countByBoardAndUser(board, user);
-        if (boardLikeCount > 0) {
+        try {
+            if (!boardLikeCounter.increase(id, () -> boardLikeRepository.insertLike(id, user.getId(), LocalDateTime.now()) > 0)) {
+                return ServiceResult.fail("게시글이 존재하지 않습니다.");
+            }
+        } catch (DataIntegrityViolationException e) {
             return ServiceResult.fail("이미 좋아요한 내용이 있습니다.");
         }
 
-        boardLikeRepository.save(BoardLike.builder()
-                .board(board)
-                .user(user)
-                .regDate(LocalDateTime.now()).build());
-
         return ServiceResult.success();
     }
 
     @Override
     public ServiceResult setBoardUnLike(Long id, String email) {
 
-        Optional<Board> optionalBoard = boardRepository.findById(id);
-        if (!optionalBoard.isPresent()) {
-            return ServiceResult.fail("게시글이 존재하지 않습니다.");
-        }
-        Board board = optionalBoard.get();
-
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             return ServiceResult.fail("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
-        Optional<BoardLike> optionalBoardLike = boardLikeRepository.findByBoardAndUser(board, user);
-        if (!optionalBoardLike.isPresent()) {
+        if (!boardLikeCounter.decrease(id, () -> boardLikeRepository.deleteLike(id, user.getId()) > 0)) {
+            if (!boardRepository.existsById(id)) {
+                return ServiceResult.fail("게시글이 존재하지 않습니다.");
+            }
             return ServiceResult.fail("좋아요한 내용이 없습니다.");
         }
-        BoardLike boardLike = optionalBoardLike.get();
 
-        boardLikeRepository.delete(boardLike);
         return ServiceResult.success();
     }
 
@@ -253,11 +259,11 @@ public class BoardServiceImpl implements BoardService {
         }
         Board board = optionalBoard.get();
 
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             return ServiceResult.fail("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
         BoardBadReport boardBadReport = BoardBadReport.builder()
                 .userId(user.getId())
@@ -291,14 +297,14 @@ public class BoardServiceImpl implements BoardService {
         }
         Board board = optionalBoard.get();
 
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             return ServiceResult.fail("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
         BoardScrap boardScrap = BoardScrap.builder()
-                .user(user)
+                .user(userRepository.getOne(user.getId()))
                 .boardId(board.getId())
                 .boardTypeId(board.getBoardType().getId())
                 .boardTitle(board.getTitle())
@@ -320,11 +326,11 @@ public class BoardServiceImpl implements BoardService {
         }
         BoardScrap boardScrap = optionalBoardScrap.get();
 
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             return ServiceResult.fail("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
         //내 스크랩인지를 확인 필요
         if (user.getId() != boardScrap.getUser().getId()) {
@@ -349,14 +355,14 @@ public class BoardServiceImpl implements BoardService {
         }
         Board board = optionalBoard.get();
 
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             return ServiceResult.fail("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
         BoardBookmark boardBookmark = BoardBookmark.builder()
-                .user(user)
+                .user(userRepository.getOne(user.getId()))
                 .boardId(board.getId())
                 .boardTypeId(board.getBoardType().getId())
                 .boardTitle(board.getTitle())
@@ -377,11 +383,11 @@ public class BoardServiceImpl implements BoardService {
         }
         BoardBookmark boardBookmark = optionalBoardBookmark.get();
 
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             return ServiceResult.fail("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
         //내 북마크인지 확인 필요
         if (user.getId() != boardBookmark.getUser().getId()) {
@@ -396,29 +402,119 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public List<Board> postList(String email) {
 
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             throw new BizException("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
-        List<Board> list = boardRepository.findByUser(user);
+        List<Board> list = boardRepository.findByUserId(user.getId());
         return list;
     }
 
     @Override
     public List<BoardComment> commentList(String email) {
 
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             throw new BizException("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
-        List<BoardComment> list = boardCommentRepository.findByUser(user);
+        List<BoardComment> list = boardCommentRepository.findByUserId(user.getId());
         return list;
     }
 
+    @Override
+    public BoardActivityFeed activityFeed(long userId, String cursor, int size) {
+
+        int pageSize = size < 1 ? DEFAULT_ACTIVITY_SIZE : Math.min(size, MAX_ACTIVITY_SIZE);
+
+        BoardActivity last = decodeCursor(cursor);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        //종류별로 커서 이후 목록을 (pageSize + 1)건까지 조회
+        List<List<BoardActivity>> sources = new ArrayList<>();
+        for (BoardActivityType type : BoardActivityType.values()) {
+
+            //같은 시간이면 종류 순서, 같은 종류면 id 역순으로 커서 이후를 판단
+            long id = type.compareTo(last.getType()) < 0 ? Long.MIN_VALUE
+                    : type == last.getType() ? last.getId() : Long.MAX_VALUE;
+
+            switch (type) {
+                case POST:
+                    sources.add(boardRepository.findActivity(userId, last.getRegDate(), id, pageable));
+                    break;
+                case COMMENT:
+                    sources.add(boardCommentRepository.findActivity(userId, last.getRegDate(), id, pageable));
+                    break;
+                case SCRAP:
+                    sources.add(boardScrapRepository.findActivity(userId, last.getRegDate(), id, pageable));
+                    break;
+                case BOOKMARK:
+                    sources.add(boardBookmarkRepository.findActivity(userId, last.getRegDate(), id, pageable));
+                    break;
+            }
+        }
+
+        //종류별 목록의 현재 위치(커서)를 우선순위 큐로 k-way merge
+        int[] positions = new int[sources.size()];
+        PriorityQueue<Integer> queue = new PriorityQueue<>((a, b) ->
+                ACTIVITY_ORDER.compare(sources.get(a).get(positions[a]), sources.get(b).get(positions[b])));
+        for (int i = 0; i < sources.size(); i++) {
+            if (!sources.get(i).isEmpty()) {
+                queue.add(i);
+            }
+        }
+
+        List<BoardActivity> list = new ArrayList<>(pageSize);
+        while (list.size() < pageSize && !queue.isEmpty()) {
+            int i = queue.poll();
+            list.add(sources.get(i).get(positions[i]++));
+            if (positions[i] < sources.get(i).size()) {
+                queue.add(i);
+            }
+        }
+
+        boolean hasNext = false;
+        for (int i = 0; i < sources.size(); i++) {
+            hasNext |= positions[i] < sources.get(i).size();
+        }
+
+        return BoardActivityFeed.builder()
+                .list(list)
+                .nextCursor(hasNext ? encodeCursor(list.get(list.size() - 1)) : null)
+                .build();
+    }
+
+    private String encodeCursor(BoardActivity activity) {
+
+        String value = activity.getRegDate() + "|" + activity.getType() + "|" + activity.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private BoardActivity decodeCursor(String cursor) {
+
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                return BoardActivity.builder()
+                        .regDate(LocalDateTime.parse(values[0]))
+                        .type(BoardActivityType.valueOf(values[1]))
+                        .id(Long.parseLong(values[2]))
+                        .build();
+            } catch (RuntimeException e) {
+                throw new BizException("커서 정보가 정확하지 않습니다.");
+            }
+        }
+
+        return BoardActivity.builder()
+                .regDate(MAX_REG_DATE)
+                .type(BoardActivityType.POST)
+                .id(Long.MAX_VALUE)
+                .build();
+    }
+
     @Override
     public Board detail(Long id) {
 
@@ -438,11 +534,11 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public ServiceResult add(String email, BoardInput boardInput) {
 
-        Optional<User> optionalUser = userRepository.findByEmail(email);
+        Optional<UserPrincipal> optionalUser = userPrincipalCache.get(email);
         if (!optionalUser.isPresent()) {
             throw new BizException("회원 정보가 존재하지 않습니다.");
         }
-        User user = optionalUser.get();
+        UserPrincipal user = optionalUser.get();
 
         Optional<BoardType> optionalBoardType = boardTypeRepository.findById(boardInput.getBoardType());
         if (!optionalBoardType.isPresent()) {
@@ -451,13 +547,14 @@ public class BoardServiceImpl implements BoardService {
         BoardType boardType = optionalBoardType.get();
 
         Board board = Board.builder()
-                .user(user)
+                .user(userRepository.getOne(user.getId()))
                 .boardType(boardType)
                 .title(boardInput.getTitle())
                 .contents(boardInput.getContents())
                 .regDate(LocalDateTime.now())
                 .build();
         boardRepository.save(board);
+        boardTypeRepository.increaseBoardCount(boardType.getId(), 1);
 
 
         //메일전송로직
@@ -0,0 +1,103 @@
+package com.example.jpa.common;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.jpa.user.entity.RevokedToken;
+import com.example.jpa.user.repository.RevokedTokenRepository;
+import com.example.jpa.util.BloomFilter;
+import com.example.jpa.util.JWTUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 삭제(로그아웃)된 JWT 토큰 블랙리스트
+ * - 요청마다 메모리의 블룸필터를 먼저 확인하고, 필터에 걸린 경우에만 DB를 조회
+ * - 필터는 스케쥴러에서 주기적으로 만료되지 않은 토큰으로 재생성
+ * - 재생성 중 등록된 토큰이 누락되지 않도록 revoke 와 rebuild 는 동기화
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TokenBlacklist {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_EXPECTED_INSERTIONS = 1024;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private volatile BloomFilter filter;
+
+
+    @PostConstruct
+    public void init() {
+        //JWTUtils.verify 에서 토큰 검증시 항상 확인
+        JWTUtils.setRevokedChecker(this::isRevoked);
+    }
+
+    public synchronized void revoke(String token, DecodedJWT decodedJWT) {
+
+        String tokenHash = JWTUtils.hashToken(token);
+
+        if (!revokedTokenRepository.existsByTokenHash(tokenHash)) {
+
+            LocalDateTime expiredDate = decodedJWT.getExpiresAt() == null
+                    ? LocalDateTime.now().plusMonths(1)
+                    : LocalDateTime.ofInstant(decodedJWT.getExpiresAt().toInstant(), ZoneId.systemDefault());
+
+            Long userId = decodedJWT.getClaim(JWTUtils.CLAIM_USER_ID).asLong();
+
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .tokenHash(tokenHash)
+                    .userId(userId == null ? 0 : userId)
+                    .expiredDate(expiredDate)
+                    .regDate(LocalDateTime.now())
+                    .build());
+        }
+
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(tokenHash);
+        }
+
+        JWTUtils.evict(token);
+    }
+
+    public boolean isRevoked(String token) {
+
+        String tokenHash = JWTUtils.hashToken(token);
+
+        //필터가 아직 생성되지 않았으면 DB에서 확인
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(tokenHash)) {
+            return false;
+        }
+
+        return revokedTokenRepository.existsByTokenHash(tokenHash);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        revokedTokenRepository.deleteExpired(now);
+        List<String> tokenHashList = revokedTokenRepository.findTokenHashByExpiredDateAfter(now);
+
+        BloomFilter newFilter = new BloomFilter(
+                Math.max(tokenHashList.size() * 2, MIN_EXPECTED_INSERTIONS), FALSE_POSITIVE_RATE);
+        tokenHashList.forEach(newFilter::put);
+
+        filter = newFilter;
+
+        log.info("토큰 블랙리스트 필터 재생성: " + tokenHashList.size());
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.example.jpa.common;
+
+import com.example.jpa.user.model.UserPrincipal;
+import com.example.jpa.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 이메일(JWT issuer) -> 회원 id/이름 캐시
+ * - 토큰 검증시 채워두고, 서비스에서는 회원 엔티티 조회 대신 id 로 참조(getOne)
+ * - 회원정보 수정/상태변경/잠금/삭제시 evict
+ * - 최대 건수를 넘으면 가장 오래 사용하지 않은 회원부터 제거(LRU)
+ */
+@RequiredArgsConstructor
+@Component
+public class UserPrincipalCache {
+
+    private static final int MAX_SIZE = 10000;
+    private static final long TTL_MILLIS = 1000 * 60 * 10;
+
+    private final UserRepository userRepository;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+
+    public Optional<UserPrincipal> get(String email) {
+
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        synchronized (entries) {
+            Entry entry = entries.get(email);
+            if (entry != null && entry.expiredAt > System.currentTimeMillis()) {
+                return Optional.of(entry.userPrincipal);
+            }
+        }
+
+        Optional<UserPrincipal> optionalUserPrincipal = userRepository.findPrincipalByEmail(email);
+        optionalUserPrincipal.ifPresent(e -> {
+            synchronized (entries) {
+                entries.put(email, new Entry(e, System.currentTimeMillis() + TTL_MILLIS));
+            }
+        });
+        return optionalUserPrincipal;
+    }
+
+    public void evict(String email) {
+
+        synchronized (entries) {
+            entries.remove(email);
+        }
+    }
+
+    private static class Entry {
+
+        private final UserPrincipal userPrincipal;
+        private final long expiredAt;
+
+        Entry(UserPrincipal userPrincipal, long expiredAt) {
+            this.userPrincipal = userPrincipal;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
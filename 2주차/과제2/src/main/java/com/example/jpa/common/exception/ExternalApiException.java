@@ -0,0 +1,11 @@
+package com.example.jpa.common.exception;
+
+/**
+ * 외부 API 호출 실패(연결, 타임아웃, 오류 응답, 알 수 없는 결과)
+ * - 서킷브레이커는 이 예외만 실패로 집계
+ */
+public class ExternalApiException extends BizException {
+    public ExternalApiException(String message) {
+        super(message);
+    }
+}
@@ -2,9 +2,12 @@ package com.example.jpa.common.interceptor;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.example.jpa.common.UserPrincipalCache;
 import com.example.jpa.common.exception.AuthFailException;
 import com.example.jpa.common.model.ResponseResult;
+import com.example.jpa.user.model.UserPrincipal;
 import com.example.jpa.util.JWTUtils;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -12,8 +15,14 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 @Slf4j
+@RequiredArgsConstructor
 public class CommonInterceptor implements HandlerInterceptor {
 
+    private final UserPrincipalCache userPrincipalCache;
+
+    //false 면 토큰이 없는 요청은 통과(토큰이 있으면 검증)
+    private final boolean tokenRequired;
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
 
@@ -25,6 +34,10 @@ public class CommonInterceptor implements HandlerInterceptor {
         log.info(request.getRequestURI());
 
 
+        if (!tokenRequired && request.getHeader(JWTUtils.TOKEN_HEADER) == null) {
+            return true;
+        }
+
         if (!validJWT(request)) {
             throw new AuthFailException("인증정보가 정확하지 않습니다.");
         }
@@ -35,10 +48,14 @@ public class CommonInterceptor implements HandlerInterceptor {
 
     private boolean validJWT(HttpServletRequest request) {
 
-        String token = request.getHeader("F-TOKEN");
-        String email = "";
+        String token = request.getHeader(JWTUtils.TOKEN_HEADER);
         try {
-            email = JWTUtils.getIssuer(token);
+            //삭제된 토큰은 JWTUtils.verify 에서 JWTVerificationException(TokenBlacklist)
+            UserPrincipal userPrincipal = JWTUtils.getPrincipal(token);
+            request.setAttribute(JWTUtils.PRINCIPAL_ATTRIBUTE, userPrincipal);
+
+            //이후 서비스에서 이메일로 회원을 다시 조회하지 않도록 캐시에 채워둠
+            userPrincipalCache.get(userPrincipal.getEmail());
         } catch (JWTVerificationException e) {
             return false;
         } catch (Exception e) {
@@ -0,0 +1,16 @@
+package com.example.jpa.common.properties;
+
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("kakao-app")
+public class KakaoAppProperties {
+
+    private String restApiKey;
+    private String translateUrl;
+
+}
@@ -13,5 +13,6 @@ public class NaverAppProperties {
 
     private String clientId;
     private String clientSecret;
+    private String translateUrl;
 
 }
@@ -0,0 +1,31 @@
+package com.example.jpa.common.properties;
+
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("open-api")
+public class OpenApiProperties {
+
+    private String serviceKey;
+    private String pharmacyUrl;
+    private String airUrl;
+
+    //외부 API 공통 HTTP 설정(밀리초)
+    private int connectTimeout = 2000;
+    private int readTimeout = 5000;
+    private int maxConnections = 50;
+    private int maxConnectionsPerRoute = 20;
+
+    //시도/구군별 조회결과 캐시
+    private long cacheTtl = 1000 * 60 * 10;
+    private int cacheSize = 1000;
+
+    //연속 failureThreshold 번 실패하면 circuitOpenTime 동안 호출 차단
+    private int failureThreshold = 5;
+    private long circuitOpenTime = 1000 * 30;
+
+}
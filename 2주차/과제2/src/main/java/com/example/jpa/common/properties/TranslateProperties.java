@@ -0,0 +1,19 @@
+package com.example.jpa.common.properties;
+
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("translate")
+public class TranslateProperties {
+
+    //번역 API(네이버/카카오) 전용 HTTP 설정(밀리초)
+    private int connectTimeout = 2000;
+    private int readTimeout = 3000;
+    private int maxConnections = 20;
+    private int maxConnectionsPerRoute = 10;
+
+}
@@ -1,7 +1,16 @@
 package com.example.jpa.common.schedule;
 
 
+import com.example.jpa.board.service.BoardHitCounter;
+import com.example.jpa.board.service.BoardLikeCounter;
+import com.example.jpa.board.service.BoardService;
+import com.example.jpa.common.TokenBlacklist;
 import com.example.jpa.logs.service.LogService;
+import com.example.jpa.notice.service.NoticeHitCounter;
+import com.example.jpa.user.service.PointService;
+import com.example.jpa.user.service.UserActivityStatsService;
+import com.example.jpa.user.service.UserLoginHistoryService;
+import com.example.jpa.user.service.UserSearchIndex;
 import com.example.jpa.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +25,15 @@ public class Scheduler {
 
     private final LogService logService;
     private final UserService userService;
+    private final TokenBlacklist tokenBlacklist;
+    private final UserLoginHistoryService userLoginHistoryService;
+    private final UserActivityStatsService userActivityStatsService;
+    private final BoardService boardService;
+    private final BoardLikeCounter boardLikeCounter;
+    private final BoardHitCounter boardHitCounter;
+    private final NoticeHitCounter noticeHitCounter;
+    private final UserSearchIndex userSearchIndex;
+    private final PointService pointService;
 
 
     /**
@@ -47,4 +65,125 @@ public class Scheduler {
 
     }
 
+
+    /**
+     삭제된 JWT 토큰 블랙리스트의 블룸필터를 재생성(만료된 토큰 정리)
+     */
+    @Scheduled(fixedDelay = 1000 * 60 * 10)
+    public void rebuildTokenBlacklist() {
+
+        tokenBlacklist.rebuild();
+
+    }
+
+
+    /**
+     로그인 히스토리를 모아서 1초마다 저장
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flushLoginHistory() {
+
+        userLoginHistoryService.flush();
+
+    }
+
+
+    /**
+     회원별 공지사항수/좋아요수 집계를 매일 새벽4시에 원본 기준으로 보정
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcileUserActivityStats() {
+
+        userActivityStatsService.reconcile();
+
+    }
+
+
+    /**
+     게시판별 게시글수를 매일 새벽4시에 원본 기준으로 보정
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcileBoardTypeCount() {
+
+        boardService.reconcileBoardTypeCount();
+
+    }
+
+
+    /**
+     게시글 좋아요수 증감을 모아서 1초마다 반영
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flushBoardLikeCount() {
+
+        boardLikeCounter.flush();
+
+    }
+
+
+    /**
+     게시글 좋아요수를 매일 새벽4시에 원본 기준으로 보정
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcileBoardLikeCount() {
+
+        boardLikeCounter.reconcile();
+
+    }
+
+
+    /**
+     게시글 조회수/조회자 스케치를 모아서 10초마다 반영
+     */
+    @Scheduled(fixedDelay = 1000 * 10)
+    public void flushBoardHits() {
+
+        boardHitCounter.flush();
+
+    }
+
+
+    /**
+     로그를 모아서 1초마다 저장
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flushLog() {
+
+        logService.flush();
+
+    }
+
+
+    /**
+     공지사항 조회수 증가를 모아서 1초마다 반영
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flushNoticeHits() {
+
+        noticeHitCounter.flush();
+
+    }
+
+
+    /**
+     회원 검색 인덱스를 매일 새벽4시에 전체 재생성
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void rebuildUserSearchIndex() {
+
+        userSearchIndex.rebuild();
+
+    }
+
+
+    /**
+     포인트 잔액을 매일 새벽4시에 원장 합계와 비교해서 보정
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcileUserPointBalance() {
+
+        pointService.reconcile();
+
+    }
+
 }
@@ -0,0 +1,64 @@
+package com.example.jpa.config;
+
+import com.example.jpa.common.properties.OpenApiProperties;
+import com.example.jpa.common.properties.TranslateProperties;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 API 호출용 RestTemplate
+ * - 커넥션풀을 공유하고 연결/응답 대기시간을 제한
+ * - 번역 API 는 따로 설정한 커넥션풀/타임아웃 사용(translateRestTemplate)
+ */
+@Configuration
+public class RestTemplateConfiguration {
+
+	@Primary
+	@Bean
+	public RestTemplate restTemplate(OpenApiProperties openApiProperties) {
+		return createRestTemplate(openApiProperties);
+	}
+
+	@Bean
+	public RestTemplate translateRestTemplate(TranslateProperties translateProperties) {
+		return createRestTemplate(translateProperties);
+	}
+
+	public static RestTemplate createRestTemplate(OpenApiProperties openApiProperties) {
+		return createRestTemplate(openApiProperties.getConnectTimeout(), openApiProperties.getReadTimeout()
+				, openApiProperties.getMaxConnections(), openApiProperties.getMaxConnectionsPerRoute());
+	}
+
+	public static RestTemplate createRestTemplate(TranslateProperties translateProperties) {
+		return createRestTemplate(translateProperties.getConnectTimeout(), translateProperties.getReadTimeout()
+				, translateProperties.getMaxConnections(), translateProperties.getMaxConnectionsPerRoute());
+	}
+
+	private static RestTemplate createRestTemplate(int connectTimeout, int readTimeout, int maxConnections, int maxConnectionsPerRoute) {
+
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+		RequestConfig requestConfig = RequestConfig.custom()
+				.setConnectTimeout(connectTimeout)
+				.setConnectionRequestTimeout(connectTimeout)
+				.setSocketTimeout(readTimeout)
+				.build();
+
+		CloseableHttpClient httpClient = HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig)
+				.build();
+
+		return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+	}
+
+}
@@ -1,21 +1,30 @@
 package com.example.jpa.config;
 
+import com.example.jpa.common.UserPrincipalCache;
 import com.example.jpa.common.interceptor.CommonInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+@RequiredArgsConstructor
 @Configuration
 public class WebMvcConfiguration implements WebMvcConfigurer {
 
+	private final UserPrincipalCache userPrincipalCache;
 
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
 
-		registry.addInterceptor(new CommonInterceptor())
+		registry.addInterceptor(new CommonInterceptor(userPrincipalCache, true))
 				.addPathPatterns("/api/*")
 				.excludePathPatterns("/api/public/*");
 
+		//하위 경로(/api/user/board/post 등)는 토큰이 있으면 검증(삭제된 토큰 차단), 없으면 컨트롤러에서 처리
+		registry.addInterceptor(new CommonInterceptor(userPrincipalCache, false))
+				.addPathPatterns("/api/**")
+				.excludePathPatterns("/api/*", "/api/public/**");
+
 
 	}
 
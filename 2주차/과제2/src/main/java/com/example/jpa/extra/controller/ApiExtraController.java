@@ -1,9 +1,11 @@
 package com.example.jpa.extra.controller;
 
+import com.example.jpa.common.exception.BizException;
 import com.example.jpa.common.model.ResponseResult;
 import com.example.jpa.extra.model.AirInput;
 import com.example.jpa.extra.model.OpenApiResult;
 import com.example.jpa.extra.model.PharmacySearch;
+import com.example.jpa.extra.service.OpenApiService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +28,7 @@ import java.util.Collections;
 @RestController
 public class ApiExtraController {
 
+    private final OpenApiService openApiService;
 
     /**
      86. RestTemplate을 이용한 공공데이터토털의 공공API연동하여 전국약국목록을 가져오는 API를 작성해 보세요.
@@ -113,6 +116,7 @@ public class ApiExtraController {
      - 시도/구군 단위 검색기능에 대한 구현을 추가
      - 결과데이터를 모델로 매핑하여 처리
      */
+    /*
     @GetMapping("/api/extra/pharmacy")
     public ResponseEntity<?> pharmacy(@RequestBody PharmacySearch pharmacySearch) {
 
@@ -152,6 +156,7 @@ public class ApiExtraController {
 
         return ResponseResult.success(jsonResult);
     }
+    */
 
 
 
@@ -159,6 +164,7 @@ public class ApiExtraController {
     /**
      89. 미세먼지 정보 조회(공공 API)를 통해서 내용을 내리는 API를 작성해 보세요.
      */
+    /*
     @GetMapping("/api/extra/air")
     public String air(@RequestBody AirInput airInput) {
 
@@ -184,6 +190,37 @@ public class ApiExtraController {
 
         return apiResult;
     }
+    */
+
+
+    /**
+     - 88, 89번 API 를 공통 RestTemplate(커넥션풀, 타임아웃)과 조회조건별 캐시로 처리
+     */
+    @GetMapping("/api/extra/pharmacy")
+    public ResponseEntity<?> pharmacy(@RequestBody PharmacySearch pharmacySearch) {
+
+        OpenApiResult jsonResult = null;
+        try {
+            jsonResult = openApiService.getPharmacy(pharmacySearch);
+        } catch (BizException e) {
+            log.error(e.getMessage());
+        }
+
+        return ResponseResult.success(jsonResult);
+    }
+
+    @GetMapping("/api/extra/air")
+    public String air(@RequestBody AirInput airInput) {
+
+        String apiResult = "";
+        try {
+            apiResult = openApiService.getAir(airInput);
+        } catch (BizException e) {
+            log.error(e.getMessage());
+        }
+
+        return apiResult;
+    }
 
 
 
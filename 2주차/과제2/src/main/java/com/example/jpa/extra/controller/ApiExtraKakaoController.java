@@ -1,38 +1,29 @@
 package com.example.jpa.extra.controller;
 
+import com.example.jpa.common.exception.BizException;
 import com.example.jpa.common.model.ResponseResult;
-import com.example.jpa.extra.model.AirInput;
 import com.example.jpa.extra.model.KakaoTranslateInput;
-import com.example.jpa.extra.model.OpenApiResult;
-import com.example.jpa.extra.model.PharmacySearch;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.jpa.extra.model.TranslateProvider;
+import com.example.jpa.extra.model.TranslateResult;
+import com.example.jpa.extra.service.TranslateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
-
-import java.net.URI;
-import java.net.URLEncoder;
-import java.util.Collections;
-
 
 @Slf4j
 @RequiredArgsConstructor
 @RestController
 public class ApiExtraKakaoController {
 
+    private final TranslateService translateService;
+
     /**
      90. KAKAO OPEN API를 활용한 게시글 번역서비스를 구현하는 API를 작성해 보세요.
      - 카카오 개발자사이트에 앱을 통해 가입한 이후에 진행
+     - 번역결과 캐시(메모리+DB), 같은 원문 동시요청은 한번만 번역, 장애시 네이버 번역으로 대체
      */
 
     @GetMapping("/api/extra/kakao/translate")
@@ -47,26 +38,14 @@ public class ApiExtraKakaoController {
          -H "Authorization: KakaoAK {REST_API_KEY}"
          */
 
-        String restApiKey = "9408825ad7c8d74ede01f28f10061f1a";
-        String url = "https://dapi.kakao.com/v2/translation/translate";
-
-
-        RestTemplate restTemplate = new RestTemplate();
-
-        MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
-        parameters.add("src_lang", "kr");
-        parameters.add("target_lang", "en");
-        parameters.add("query", kakaoTranslateInput.getText());
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        headers.add("Authorization", "KakaoAK " + restApiKey);
-
-        HttpEntity formEntity = new HttpEntity<>(parameters, headers);
-        ResponseEntity<String> responseEntity = restTemplate.postForEntity(url, formEntity, String.class);
-
+        TranslateResult result;
+        try {
+            result = translateService.translate(TranslateProvider.KAKAO, "ko", "en", kakaoTranslateInput.getText());
+        } catch (BizException e) {
+            return ResponseResult.fail(e.getMessage());
+        }
 
-        return ResponseResult.success(responseEntity.getBody());
+        return ResponseResult.success(result);
 
     }
 
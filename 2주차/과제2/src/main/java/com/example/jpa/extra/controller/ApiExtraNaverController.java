@@ -1,9 +1,13 @@
 package com.example.jpa.extra.controller;
 
+import com.example.jpa.common.exception.BizException;
 import com.example.jpa.common.model.ResponseResult;
 import com.example.jpa.common.properties.NaverAppProperties;
 import com.example.jpa.extra.model.KakaoTranslateInput;
 import com.example.jpa.extra.model.NaverTranslateInput;
+import com.example.jpa.extra.model.TranslateProvider;
+import com.example.jpa.extra.model.TranslateResult;
+import com.example.jpa.extra.service.TranslateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -25,6 +29,7 @@ public class ApiExtraNaverController {
 
 
     private final NaverAppProperties naverAppProperties;
+    private final TranslateService translateService;
 
 
     /**
@@ -75,6 +80,7 @@ public class ApiExtraNaverController {
      94. 91번 문제의 OPEN API연동 문제에서 활요한 API키를 프로퍼티로 설정하여 호출하는 API를 작성해 보세요.
      */
 
+    /*
     @GetMapping("/api/extra/naver/translate")
     public ResponseEntity<?> translate(@RequestBody NaverTranslateInput naverTranslateInput) {
 
@@ -102,6 +108,24 @@ public class ApiExtraNaverController {
         return ResponseResult.success(responseEntity.getBody());
 
     }
+    */
+
+    /**
+     - 번역결과 캐시(메모리+DB), 같은 원문 동시요청은 한번만 번역, 장애시 카카오 번역으로 대체
+     */
+    @GetMapping("/api/extra/naver/translate")
+    public ResponseEntity<?> translate(@RequestBody NaverTranslateInput naverTranslateInput) {
+
+        TranslateResult result;
+        try {
+            result = translateService.translate(TranslateProvider.NAVER, "ko", "en", naverTranslateInput.getText());
+        } catch (BizException e) {
+            return ResponseResult.fail(e.getMessage());
+        }
+
+        return ResponseResult.success(result);
+    }
+
 
 
 
@@ -0,0 +1,42 @@
+package com.example.jpa.extra.entity;
+
+import com.example.jpa.extra.model.TranslateProvider;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class TranslationCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private TranslateProvider provider;
+
+    @Column
+    private String sourceLang;
+
+    @Column
+    private String targetLang;
+
+    @Column
+    private String textHash;
+
+    @Column
+    private String translatedText;
+
+    @Column
+    private LocalDateTime regDate;
+
+}
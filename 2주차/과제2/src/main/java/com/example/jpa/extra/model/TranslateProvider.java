@@ -0,0 +1,15 @@
+package com.example.jpa.extra.model;
+
+public enum TranslateProvider {
+
+    NAVER,
+
+    KAKAO;
+
+    /**
+     * 장애시 대신 호출할 번역업체
+     */
+    public TranslateProvider other() {
+        return this == NAVER ? KAKAO : NAVER;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.jpa.extra.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TranslateResult {
+
+    //실제 번역한 업체
+    private TranslateProvider provider;
+
+    private String sourceLang;
+    private String targetLang;
+    private String translatedText;
+
+}
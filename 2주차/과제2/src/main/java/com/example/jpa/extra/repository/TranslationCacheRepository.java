@@ -0,0 +1,14 @@
+package com.example.jpa.extra.repository;
+
+import com.example.jpa.extra.entity.TranslationCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TranslationCacheRepository extends JpaRepository<TranslationCache, Long> {
+
+    List<TranslationCache> findByTextHashAndSourceLangAndTargetLang(String textHash, String sourceLang, String targetLang);
+
+}
@@ -0,0 +1,19 @@
+package com.example.jpa.extra.service;
+
+import com.example.jpa.extra.model.AirInput;
+import com.example.jpa.extra.model.OpenApiResult;
+import com.example.jpa.extra.model.PharmacySearch;
+
+public interface OpenApiService {
+
+    /**
+     * 시도/구군별 약국목록(캐시)
+     */
+    OpenApiResult getPharmacy(PharmacySearch pharmacySearch);
+
+    /**
+     * 시도별 미세먼지 정보(캐시)
+     */
+    String getAir(AirInput airInput);
+
+}
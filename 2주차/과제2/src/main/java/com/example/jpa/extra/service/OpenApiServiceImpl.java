@@ -0,0 +1,132 @@
+package com.example.jpa.extra.service;
+
+import com.example.jpa.common.exception.BizException;
+import com.example.jpa.common.exception.ExternalApiException;
+import com.example.jpa.common.properties.OpenApiProperties;
+import com.example.jpa.extra.model.AirInput;
+import com.example.jpa.extra.model.OpenApiResult;
+import com.example.jpa.extra.model.PharmacySearch;
+import com.example.jpa.util.CircuitBreaker;
+import com.example.jpa.util.ExpiringCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLEncoder;
+import java.util.Collections;
+
+/**
+ * 공공데이터포털 API 조회
+ * - 공통 RestTemplate(커넥션풀, 타임아웃) 사용
+ * - 조회조건별로 결과를 캐시하고, 같은 조건의 동시 요청은 한번만 호출
+ * - API 별 서킷브레이커로 장애시 바로 실패
+ */
+@Slf4j
+@Service
+public class OpenApiServiceImpl implements OpenApiService {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final OpenApiProperties openApiProperties;
+
+    private final ExpiringCache<String, OpenApiResult> pharmacyCache;
+    private final ExpiringCache<String, String> airCache;
+
+    private final CircuitBreaker pharmacyCircuitBreaker;
+    private final CircuitBreaker airCircuitBreaker;
+
+    public OpenApiServiceImpl(RestTemplate restTemplate, ObjectMapper objectMapper, OpenApiProperties openApiProperties) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.openApiProperties = openApiProperties;
+
+        this.pharmacyCache = new ExpiringCache<>(openApiProperties.getCacheSize(), openApiProperties.getCacheTtl());
+        this.airCache = new ExpiringCache<>(openApiProperties.getCacheSize(), openApiProperties.getCacheTtl());
+
+        this.pharmacyCircuitBreaker = new CircuitBreaker("약국정보 API"
+                , openApiProperties.getFailureThreshold(), openApiProperties.getCircuitOpenTime());
+        this.airCircuitBreaker = new CircuitBreaker("미세먼지 API"
+                , openApiProperties.getFailureThreshold(), openApiProperties.getCircuitOpenTime());
+    }
+
+    @Override
+    public OpenApiResult getPharmacy(PharmacySearch pharmacySearch) {
+
+        String sido = pharmacySearch.getSearchSido();
+        String gugun = pharmacySearch.getSearchGugun();
+        if (!StringUtils.hasText(sido) || !StringUtils.hasText(gugun)) {
+            throw new BizException("시도, 구군 정보가 없습니다.");
+        }
+
+        //요청값 확인/인코딩은 서킷브레이커 밖에서(잘못된 요청이 장애로 집계되지 않도록)
+        String url = String.format("%s?serviceKey=%s&pageNo=1&numOfRows=10&Q0=%s&Q1=%s"
+                , openApiProperties.getPharmacyUrl()
+                , openApiProperties.getServiceKey()
+                , encode(sido)
+                , encode(gugun));
+
+        return pharmacyCache.get(sido + "|" + gugun, () -> pharmacyCircuitBreaker.call(() -> {
+
+            String result = request(url);
+            try {
+                return objectMapper.readValue(result, OpenApiResult.class);
+            } catch (JsonProcessingException e) {
+                throw new ExternalApiException("약국정보 API 결과를 확인할 수 없습니다.");
+            }
+        }));
+    }
+
+    @Override
+    public String getAir(AirInput airInput) {
+
+        String sido = airInput.getSearchSido();
+        if (!StringUtils.hasText(sido)) {
+            throw new BizException("시도 정보가 없습니다.");
+        }
+
+        String url = String.format("%s?serviceKey=%s&pageNo=1&numOfRows=10&sidoName=%s"
+                , openApiProperties.getAirUrl()
+                , openApiProperties.getServiceKey()
+                , encode(sido));
+
+        return airCache.get(sido, () -> airCircuitBreaker.call(() -> request(url)));
+    }
+
+    private String request(String url) {
+
+        log.info(url);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+
+        try {
+            String result = restTemplate.exchange(new URI(url), HttpMethod.GET, new HttpEntity<>(headers), String.class).getBody();
+            if (result == null) {
+                throw new ExternalApiException("API 결과가 없습니다.");
+            }
+            return result;
+        } catch (URISyntaxException | RestClientException e) {
+            log.error("API 호출 실패: " + e.getMessage());
+            throw new ExternalApiException("API 호출에 실패하였습니다.");
+        }
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
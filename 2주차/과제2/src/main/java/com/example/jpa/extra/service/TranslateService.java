@@ -0,0 +1,14 @@
+package com.example.jpa.extra.service;
+
+import com.example.jpa.extra.model.TranslateProvider;
+import com.example.jpa.extra.model.TranslateResult;
+
+public interface TranslateService {
+
+    /**
+     * 번역(캐시), 요청한 업체가 실패하면 다른 업체로 번역
+     * - sourceLang/targetLang 은 네이버 언어코드(ko, en ...)
+     */
+    TranslateResult translate(TranslateProvider provider, String sourceLang, String targetLang, String text);
+
+}
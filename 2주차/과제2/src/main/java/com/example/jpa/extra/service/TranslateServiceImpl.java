@@ -0,0 +1,233 @@
+package com.example.jpa.extra.service;
+
+import com.example.jpa.common.exception.BizException;
+import com.example.jpa.common.exception.ExternalApiException;
+import com.example.jpa.common.properties.KakaoAppProperties;
+import com.example.jpa.common.properties.NaverAppProperties;
+import com.example.jpa.extra.entity.TranslationCache;
+import com.example.jpa.extra.model.TranslateProvider;
+import com.example.jpa.extra.model.TranslateResult;
+import com.example.jpa.extra.repository.TranslationCacheRepository;
+import com.example.jpa.util.CircuitBreaker;
+import com.example.jpa.util.ExpiringCache;
+import com.example.jpa.util.FingerprintUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 네이버(파파고)/카카오 번역
+ * - 번역결과는 메모리(LRU)와 DB(translation_cache)에 저장하고 같은 원문은 다시 번역하지 않음
+ * - 같은 원문의 동시 요청은 한번만 번역
+ * - 요청한 업체가 실패하거나 차단중이면 다른 업체로 번역
+ */
+@Slf4j
+@Service
+public class TranslateServiceImpl implements TranslateService {
+
+    private static final int CACHE_SIZE = 10000;
+    private static final long CACHE_TTL = 1000 * 60 * 60 * 24;
+
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final long CIRCUIT_OPEN_TIME = 1000 * 30;
+
+    //네이버 언어코드 -> 카카오 언어코드
+    private static final Map<String, String> KAKAO_LANG = new HashMap<>();
+    static {
+        KAKAO_LANG.put("ko", "kr");
+        KAKAO_LANG.put("ja", "jp");
+        KAKAO_LANG.put("zh-CN", "cn");
+    }
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final NaverAppProperties naverAppProperties;
+    private final KakaoAppProperties kakaoAppProperties;
+    private final TranslationCacheRepository translationCacheRepository;
+
+    private final ExpiringCache<String, TranslateResult> cache = new ExpiringCache<>(CACHE_SIZE, CACHE_TTL);
+    private final Map<TranslateProvider, CircuitBreaker> circuitBreakers = new EnumMap<>(TranslateProvider.class);
+
+    public TranslateServiceImpl(@Qualifier("translateRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper
+            , NaverAppProperties naverAppProperties, KakaoAppProperties kakaoAppProperties
+            , TranslationCacheRepository translationCacheRepository) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.naverAppProperties = naverAppProperties;
+        this.kakaoAppProperties = kakaoAppProperties;
+        this.translationCacheRepository = translationCacheRepository;
+
+        for (TranslateProvider provider : TranslateProvider.values()) {
+            circuitBreakers.put(provider, new CircuitBreaker(provider + " 번역 API", FAILURE_THRESHOLD, CIRCUIT_OPEN_TIME));
+        }
+    }
+
+    @Override
+    public TranslateResult translate(TranslateProvider provider, String sourceLang, String targetLang, String text) {
+
+        if (text == null || text.trim().isEmpty()) {
+            throw new BizException("번역할 내용이 없습니다.");
+        }
+
+        String textHash = FingerprintUtils.textHash(text);
+        String key = provider + "|" + sourceLang + "|" + targetLang + "|" + textHash;
+
+        return cache.get(key, () -> {
+
+            TranslateResult saved = findSaved(provider, sourceLang, targetLang, textHash);
+            if (saved != null) {
+                return saved;
+            }
+
+            TranslateResult result;
+            try {
+                result = request(provider, sourceLang, targetLang, text);
+            } catch (BizException e) {
+                log.warn(provider + " 번역 실패, " + provider.other() + " 번역으로 대체: " + e.getMessage());
+                result = request(provider.other(), sourceLang, targetLang, text);
+            }
+
+            save(result, textHash);
+            return result;
+        });
+    }
+
+    /**
+     * DB 에 저장된 번역결과, 요청한 업체의 결과를 먼저 사용
+     */
+    private TranslateResult findSaved(TranslateProvider provider, String sourceLang, String targetLang, String textHash) {
+
+        List<TranslationCache> list = translationCacheRepository.findByTextHashAndSourceLangAndTargetLang(textHash, sourceLang, targetLang);
+
+        TranslationCache found = null;
+        for (TranslationCache x : list) {
+            if (x.getProvider() == provider) {
+                found = x;
+                break;
+            }
+            found = x;
+        }
+
+        if (found == null) {
+            return null;
+        }
+
+        return TranslateResult.builder()
+                .provider(found.getProvider())
+                .sourceLang(sourceLang)
+                .targetLang(targetLang)
+                .translatedText(found.getTranslatedText())
+                .build();
+    }
+
+    private void save(TranslateResult result, String textHash) {
+
+        try {
+            translationCacheRepository.save(TranslationCache.builder()
+                    .provider(result.getProvider())
+                    .sourceLang(result.getSourceLang())
+                    .targetLang(result.getTargetLang())
+                    .textHash(textHash)
+                    .translatedText(result.getTranslatedText())
+                    .regDate(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            //다른 서버에서 먼저 저장한 경우
+            log.info("번역결과 중복 저장: " + textHash);
+        }
+    }
+
+    private TranslateResult request(TranslateProvider provider, String sourceLang, String targetLang, String text) {
+
+        String translatedText = circuitBreakers.get(provider).call(() -> provider == TranslateProvider.NAVER
+                ? requestNaver(sourceLang, targetLang, text)
+                : requestKakao(sourceLang, targetLang, text));
+
+        return TranslateResult.builder()
+                .provider(provider)
+                .sourceLang(sourceLang)
+                .targetLang(targetLang)
+                .translatedText(translatedText)
+                .build();
+    }
+
+    private String requestNaver(String sourceLang, String targetLang, String text) {
+
+        MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+        parameters.add("source", sourceLang);
+        parameters.add("target", targetLang);
+        parameters.add("text", text);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        headers.add("X-Naver-Client-Id", naverAppProperties.getClientId());
+        headers.add("X-Naver-Client-Secret", naverAppProperties.getClientSecret());
+
+        JsonNode jsonNode = post(naverAppProperties.getTranslateUrl(), new HttpEntity<>(parameters, headers));
+
+        JsonNode translatedText = jsonNode.path("message").path("result").path("translatedText");
+        if (!translatedText.isTextual()) {
+            throw new ExternalApiException("NAVER 번역 결과를 확인할 수 없습니다.");
+        }
+        return translatedText.asText();
+    }
+
+    private String requestKakao(String sourceLang, String targetLang, String text) {
+
+        MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+        parameters.add("src_lang", KAKAO_LANG.getOrDefault(sourceLang, sourceLang));
+        parameters.add("target_lang", KAKAO_LANG.getOrDefault(targetLang, targetLang));
+        parameters.add("query", text);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        headers.add("Authorization", "KakaoAK " + kakaoAppProperties.getRestApiKey());
+
+        JsonNode jsonNode = post(kakaoAppProperties.getTranslateUrl(), new HttpEntity<>(parameters, headers));
+
+        //문단별 문장 목록 [["..."], ["..."]]
+        JsonNode paragraphs = jsonNode.path("translated_text");
+        if (!paragraphs.isArray()) {
+            throw new ExternalApiException("KAKAO 번역 결과를 확인할 수 없습니다.");
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (JsonNode paragraph : paragraphs) {
+            for (JsonNode sentence : paragraph) {
+                if (sb.length() > 0) {
+                    sb.append(" ");
+                }
+                sb.append(sentence.asText());
+            }
+        }
+        return sb.toString();
+    }
+
+    private JsonNode post(String url, HttpEntity<MultiValueMap<String, String>> formEntity) {
+
+        try {
+            String body = restTemplate.postForEntity(url, formEntity, String.class).getBody();
+            return objectMapper.readTree(body == null ? "" : body);
+        } catch (RestClientException | JsonProcessingException e) {
+            log.error("번역 API 호출 실패: " + e.getMessage());
+            throw new ExternalApiException("번역 API 호출에 실패하였습니다.");
+        }
+    }
+}
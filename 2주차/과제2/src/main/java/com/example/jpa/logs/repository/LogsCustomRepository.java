@@ -0,0 +1,26 @@
+package com.example.jpa.logs.repository;
+
+import com.example.jpa.logs.entity.Logs;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class LogsCustomRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<Logs> list) {
+
+        String sql = " insert into logs (text, reg_date) values (?, ?) ";
+
+        jdbcTemplate.batchUpdate(sql, list, list.size(), (ps, e) -> {
+            ps.setString(1, e.getText());
+            ps.setTimestamp(2, Timestamp.valueOf(e.getRegDate()));
+        });
+    }
+}
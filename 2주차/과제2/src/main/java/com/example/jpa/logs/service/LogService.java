@@ -5,5 +5,10 @@ public interface LogService {
 
     void add(String text);
 
+    /**
+     * 모아둔 로그를 저장
+     */
+    void flush();
+
     void deleteLog();
 }
@@ -2,26 +2,62 @@ package com.example.jpa.logs.service;
 
 
 import com.example.jpa.logs.entity.Logs;
+import com.example.jpa.logs.repository.LogsCustomRepository;
 import com.example.jpa.logs.repository.LogsRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class LogServiceImpl implements LogService {
 
+    private static final int QUEUE_CAPACITY = 100000;
+    private static final int BATCH_SIZE = 500;
+
     private final LogsRepository logsRepository;
+    private final LogsCustomRepository logsCustomRepository;
+
+    private final BlockingQueue<Logs> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
 
     @Override
     public void add(String text) {
 
-        logsRepository.save(Logs.builder()
+        Logs logs = Logs.builder()
                 .text(text)
                 .regDate(LocalDateTime.now())
-                .build());
+                .build();
+
+        //큐가 가득 찬 경우는 바로 저장
+        if (!queue.offer(logs)) {
+            logsCustomRepository.batchInsert(Collections.singletonList(logs));
+        }
+    }
+
+    @PreDestroy
+    @Override
+    public void flush() {
 
+        List<Logs> list = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(list, BATCH_SIZE) > 0) {
+            try {
+                logsCustomRepository.batchInsert(list);
+            } catch (Exception e) {
+                log.info("로그 저장 에러:" + e.getMessage());
+                list.forEach(queue::offer);
+                return;
+            }
+            list.clear();
+        }
     }
 
     @Override
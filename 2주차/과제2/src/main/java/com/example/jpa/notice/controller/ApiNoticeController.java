@@ -1,5 +1,7 @@
 package com.example.jpa.notice.controller;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.example.jpa.common.model.ResponseResult;
 import com.example.jpa.notice.entity.Notice;
 import com.example.jpa.notice.execption.AlreadyDeletedException;
 import com.example.jpa.notice.execption.DuplicateNoticeException;
@@ -8,11 +10,21 @@ import com.example.jpa.notice.model.NoticeDeleteInput;
 import com.example.jpa.notice.model.NoticeInput;
 import com.example.jpa.notice.model.NoticeModel;
 import com.example.jpa.notice.model.ResponseError;
+import com.example.jpa.notice.repository.NoticeCustomRepository;
+import com.example.jpa.notice.repository.NoticeLikeRepository;
 import com.example.jpa.notice.repository.NoticeRepository;
+import com.example.jpa.notice.service.NoticeDuplicateChecker;
+import com.example.jpa.notice.service.NoticeHitCounter;
+import com.example.jpa.user.model.UserPrincipal;
+import com.example.jpa.user.repository.UserRepository;
+import com.example.jpa.user.service.UserActivityStatsService;
+import com.example.jpa.util.FingerprintUtils;
+import com.example.jpa.util.JWTUtils;
 import jdk.vm.ci.meta.Local;
 import lombok.RequiredArgsConstructor;
 import org.graalvm.compiler.core.common.type.ArithmeticOpTable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -22,10 +34,12 @@ import org.springframework.validation.Errors;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -34,6 +48,12 @@ import java.util.Optional;
 public class ApiNoticeController {
 
     private final NoticeRepository noticeRepository;
+    private final NoticeCustomRepository noticeCustomRepository;
+    private final NoticeLikeRepository noticeLikeRepository;
+    private final UserRepository userRepository;
+    private final NoticeHitCounter noticeHitCounter;
+    private final NoticeDuplicateChecker noticeDuplicateChecker;
+    private final UserActivityStatsService userActivityStatsService;
 
 
     /*
@@ -228,6 +248,7 @@ public class ApiNoticeController {
 
         notice.setTitle(noticeInput.getTitle());
         notice.setContents(noticeInput.getContents());
+        notice.setContentHash(FingerprintUtils.contentHash(noticeInput.getTitle(), noticeInput.getContents()));
         notice.setUpdateDate(LocalDateTime.now());
         noticeRepository.save(notice);
     }
@@ -236,12 +257,11 @@ public class ApiNoticeController {
     @PatchMapping("/api/notice/{id}/hits")
     public void noticeHits(@PathVariable Long id) {
 
-        Notice notice = noticeRepository.findById(id)
-                .orElseThrow(() -> new NoticeNotFundException("공지사항의 글이 존재하지 않습니다."));
-
-        notice.setHits(notice.getHits() + 1);
+        if (!noticeRepository.existsById(id)) {
+            throw new NoticeNotFundException("공지사항의 글이 존재하지 않습니다.");
+        }
 
-        noticeRepository.save(notice);
+        noticeHitCounter.increase(id);
     }
 
 
@@ -287,33 +307,41 @@ public class ApiNoticeController {
         notice.setDeletedDate(LocalDateTime.now());
 
         noticeRepository.save(notice);
+
+        if (notice.getUser() != null) {
+            userActivityStatsService.increaseNoticeCount(notice.getUser().getId(), -1);
+        }
     }
 
     @DeleteMapping("/api/notice")
     public void deleteNoticeList(@RequestBody NoticeDeleteInput noticeDeleteInput) {
 
-        List<Notice> noticeList = noticeRepository.findByIdIn(noticeDeleteInput.getIdList())
-                .orElseThrow(() -> new NoticeNotFundException("공지사항의 글이 존재하지 않습니다."));
+        List<Long> idList = noticeDeleteInput.getIdList();
+        if (idList == null || idList.isEmpty()) {
+            return;
+        }
 
-        noticeList.stream().forEach(e -> {
-            e.setDeleted(true);
-            e.setDeletedDate(LocalDateTime.now());
-        });
+        //이미 삭제된 글을 제외하고 실제 삭제된 작성자별 건수
+        Map<Long, Long> deletedCountMap = noticeCustomRepository.softDelete(idList, LocalDateTime.now());
 
-        noticeRepository.saveAll(noticeList);
+        deletedCountMap.forEach((userId, count) -> userActivityStatsService.increaseNoticeCount(userId, -count));
     }
 
     @DeleteMapping("/api/notice/all")
     public void deleteAll() {
 
         noticeRepository.deleteAll();
+        userActivityStatsService.clearNoticeCount();
 
     }
 
 
     /*
     @PostMapping("/api/notice")
-    public void addNotice(@RequestBody NoticeInput noticeInput) {
+    public void addNotice(@RequestBody NoticeInput noticeInput, HttpServletRequest request) {
+
+        //작성자(인터셉터에서 검증된 토큰의 회원)
+        UserPrincipal userPrincipal = JWTUtils.getPrincipal(request);
 
         Notice notice = Notice.builder()
                 .title(noticeInput.getTitle())
@@ -402,25 +430,79 @@ public class ApiNoticeController {
     }
 
     @PostMapping("/api/notice")
-    public void addNotice(@RequestBody NoticeInput noticeInput) {
+    public void addNotice(@RequestBody NoticeInput noticeInput, HttpServletRequest request) {
+
+        //작성자(인터셉터에서 검증된 토큰의 회원)
+        UserPrincipal userPrincipal = JWTUtils.getPrincipal(request);
 
         //중복체크
-        LocalDateTime checkDate = LocalDateTime.now().minusMinutes(1);
-        int noticeCount = noticeRepository.countByTitleAndContentsAndRegDateIsGreaterThanEqual(
-                noticeInput.getTitle()
-                , noticeInput.getContents()
-                , checkDate);
-        if (noticeCount > 0) {
+        String contentHash = FingerprintUtils.contentHash(noticeInput.getTitle(), noticeInput.getContents());
+        if (noticeDuplicateChecker.isDuplicate(contentHash)) {
             throw new DuplicateNoticeException("1분이내에 등록된 동일한 공지사항이 존재합니다.");
         }
 
-        noticeRepository.save(Notice.builder()
-                .title(noticeInput.getTitle())
-                .contents(noticeInput.getContents())
-                .hits(0)
-                .likes(0)
-                .regDate(LocalDateTime.now())
-                .build());
+        Notice notice;
+        try {
+            notice = noticeRepository.save(Notice.builder()
+                    .title(noticeInput.getTitle())
+                    .contents(noticeInput.getContents())
+                    .contentHash(contentHash)
+                    .user(userPrincipal.getId() > 0 ? userRepository.getOne(userPrincipal.getId()) : null)
+                    .hits(0)
+                    .likes(0)
+                    .regDate(LocalDateTime.now())
+                    .build());
+        } catch (RuntimeException e) {
+            //저장 실패시 다시 등록할 수 있도록 중복 기록 삭제
+            noticeDuplicateChecker.remove(contentHash);
+            throw e;
+        }
+
+        if (notice.getUser() != null) {
+            userActivityStatsService.increaseNoticeCount(notice.getUser().getId(), 1);
+        }
+    }
+
+    @PutMapping("/api/notice/{id}/like")
+    public ResponseEntity<?> noticeLike(@PathVariable Long id, HttpServletRequest request) {
+
+        UserPrincipal userPrincipal;
+        try {
+            userPrincipal = JWTUtils.getPrincipal(request);
+        } catch (JWTVerificationException e) {
+            return ResponseResult.fail("토근 정보가 정확하지 않습니다.");
+        }
+
+        try {
+            if (noticeLikeRepository.insertLike(id, userPrincipal.getId()) < 1) {
+                return ResponseResult.fail("공지사항이 존재하지 않습니다.");
+            }
+        } catch (DataIntegrityViolationException e) {
+            return ResponseResult.fail("이미 좋아요한 내용이 있습니다.");
+        }
+
+        noticeRepository.increaseLikes(id, 1);
+        userActivityStatsService.increaseNoticeLikeCount(userPrincipal.getId(), 1);
+        return ResponseResult.success();
+    }
+
+    @PutMapping("/api/notice/{id}/unlike")
+    public ResponseEntity<?> noticeUnLike(@PathVariable Long id, HttpServletRequest request) {
+
+        UserPrincipal userPrincipal;
+        try {
+            userPrincipal = JWTUtils.getPrincipal(request);
+        } catch (JWTVerificationException e) {
+            return ResponseResult.fail("토근 정보가 정확하지 않습니다.");
+        }
+
+        if (noticeLikeRepository.deleteLike(id, userPrincipal.getId()) < 1) {
+            return ResponseResult.fail("좋아요한 내용이 없습니다.");
+        }
+
+        noticeRepository.increaseLikes(id, -1);
+        userActivityStatsService.increaseNoticeLikeCount(userPrincipal.getId(), -1);
+        return ResponseResult.success();
     }
 
 
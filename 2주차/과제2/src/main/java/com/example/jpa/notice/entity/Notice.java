@@ -40,7 +40,8 @@ public class Notice {
     @Column
     private LocalDateTime updateDate;
 
-    @Column
+    //조회수는 NoticeHitCounter 에서 벌크 update 로만 증가(엔티티 수정시에는 변경하지 않음)
+    @Column(updatable = false)
     private int hits;
 
     @Column
@@ -51,4 +52,8 @@ public class Notice {
 
     @Column
     private LocalDateTime deletedDate;
+
+    //제목+내용 해시(중복 등록 확인용)
+    @Column
+    private String contentHash;
 }
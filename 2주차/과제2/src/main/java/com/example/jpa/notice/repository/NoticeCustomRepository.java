@@ -0,0 +1,83 @@
+package com.example.jpa.notice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공지사항 대량 변경
+ * - 엔티티를 조회/저장하지 않고 벌크 JPQL 로 처리
+ * - IN 절의 id 는 CHUNK_SIZE 단위로 나누어 실행
+ */
+@RequiredArgsConstructor
+@Repository
+public class NoticeCustomRepository {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final EntityManager entityManager;
+
+    /**
+     * 같은 증가값을 가진 공지사항들의 조회수를 한번에 증가
+     */
+    @Transactional
+    public int increaseHits(List<Long> idList, long count) {
+
+        String jpql = " update Notice n set n.hits = n.hits + :count where n.id in :idList ";
+
+        int result = 0;
+        for (int i = 0; i < idList.size(); i += CHUNK_SIZE) {
+            result += entityManager.createQuery(jpql)
+                    .setParameter("count", (int) count)
+                    .setParameter("idList", idList.subList(i, Math.min(i + CHUNK_SIZE, idList.size())))
+                    .executeUpdate();
+        }
+        return result;
+    }
+
+    /**
+     * 삭제되지 않은 공지사항을 삭제 처리하고 작성자별 삭제건수를 리턴
+     * - 작성자별 update 의 변경 건수로 집계하므로 동시에 같은 공지사항을 삭제해도 한쪽에서만 집계됨
+     */
+    @Transactional
+    public Map<Long, Long> softDelete(List<Long> idList, LocalDateTime deletedDate) {
+
+        String userJpql = " select distinct n.user.id from Notice n "
+                + " where n.id in :idList and n.deleted = false and n.user is not null ";
+        String jpql = " update Notice n set n.deleted = true, n.deletedDate = :deletedDate "
+                + " where n.id in :idList and n.deleted = false and n.user.id = :userId ";
+        String noUserJpql = " update Notice n set n.deleted = true, n.deletedDate = :deletedDate "
+                + " where n.id in :idList and n.deleted = false and n.user is null ";
+
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < idList.size(); i += CHUNK_SIZE) {
+            List<Long> subList = idList.subList(i, Math.min(i + CHUNK_SIZE, idList.size()));
+
+            List<Long> userIdList = entityManager.createQuery(userJpql, Long.class)
+                    .setParameter("idList", subList)
+                    .getResultList();
+            for (Long userId : userIdList) {
+                int count = entityManager.createQuery(jpql)
+                        .setParameter("deletedDate", deletedDate)
+                        .setParameter("idList", subList)
+                        .setParameter("userId", userId)
+                        .executeUpdate();
+                if (count > 0) {
+                    result.merge(userId, (long) count, Long::sum);
+                }
+            }
+
+            entityManager.createQuery(noUserJpql)
+                    .setParameter("deletedDate", deletedDate)
+                    .setParameter("idList", subList)
+                    .executeUpdate();
+        }
+        return result;
+    }
+}
@@ -4,7 +4,10 @@ import com.example.jpa.notice.entity.Notice;
 import com.example.jpa.notice.entity.NoticeLike;
 import com.example.jpa.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,5 +19,18 @@ public interface NoticeLikeRepository extends JpaRepository<NoticeLike, Long> {
 
     List<NoticeLike> findByUser(User user);
 
+    /**
+     * 삭제되지 않은 공지사항인 경우만 좋아요 추가, 중복은 유니크 제약(notice_id, user_id)으로 막음
+     */
+    @Transactional
+    @Modifying
+    @Query(value = " insert into notice_like (notice_id, user_id) "
+            + " select n.id, :userId from notice n where n.id = :noticeId and n.deleted = false ", nativeQuery = true)
+    int insertLike(long noticeId, long userId);
+
+    @Transactional
+    @Modifying
+    @Query(" delete from NoticeLike nl where nl.notice.id = :noticeId and nl.user.id = :userId ")
+    int deleteLike(long noticeId, long userId);
 
 }
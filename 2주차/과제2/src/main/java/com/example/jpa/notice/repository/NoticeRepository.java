@@ -3,7 +3,10 @@ package com.example.jpa.notice.repository;
 import com.example.jpa.notice.entity.Notice;
 import com.example.jpa.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,6 +23,13 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
     int countByTitleAndContentsAndRegDateIsGreaterThanEqual(String title, String contents, LocalDateTime regDate);
 
+    int countByContentHashAndRegDateIsGreaterThanEqual(String contentHash, LocalDateTime regDate);
+
     List<Notice> findByUser(User user);
     long countByUser(User user);
+
+    @Transactional
+    @Modifying
+    @Query(" update Notice n set n.likes = n.likes + :count where n.id = :id ")
+    int increaseLikes(long id, int count);
 }
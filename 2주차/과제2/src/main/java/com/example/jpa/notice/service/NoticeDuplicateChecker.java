@@ -0,0 +1,64 @@
+package com.example.jpa.notice.service;
+
+import com.example.jpa.notice.repository.NoticeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근에 등록된 공지사항과 같은 내용인지 확인
+ * - 최근 등록(등록중 포함)된 내용 해시를 메모리에 보관하여 같은 서버의 중복 등록은 DB 조회 없이 확인
+ * - 메모리에 없는 경우는 항상 content_hash 인덱스로 확인(재시작, 다른 서버 등록)
+ * - 저장에 실패하면 remove 로 기록을 지워서 다시 등록할 수 있게 함
+ */
+@RequiredArgsConstructor
+@Component
+public class NoticeDuplicateChecker {
+
+    private static final long WINDOW_MILLIS = 1000 * 60;
+    private static final int MAX_SIZE = 100000;
+
+    private final NoticeRepository noticeRepository;
+
+    private final Map<String, Long> recentMap = new LinkedHashMap<String, Long>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_SIZE
+                    || eldest.getValue() <= System.currentTimeMillis() - WINDOW_MILLIS;
+        }
+    };
+
+
+    /**
+     * 최근 1분 이내 같은 내용이 등록되었으면 true, 아니면 등록할 내용으로 기록하고 false
+     */
+    public boolean isDuplicate(String contentHash) {
+
+        long now = System.currentTimeMillis();
+
+        synchronized (recentMap) {
+            Long regDate = recentMap.get(contentHash);
+            if (regDate != null && regDate > now - WINDOW_MILLIS) {
+                return true;
+            }
+            recentMap.remove(contentHash);
+            recentMap.put(contentHash, now);
+        }
+
+        LocalDateTime checkDate = LocalDateTime.now().minusMinutes(1);
+        return noticeRepository.countByContentHashAndRegDateIsGreaterThanEqual(contentHash, checkDate) > 0;
+    }
+
+    /**
+     * 등록에 실패한 경우 기록 삭제
+     */
+    public void remove(String contentHash) {
+
+        synchronized (recentMap) {
+            recentMap.remove(contentHash);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.jpa.notice.service;
+
+import com.example.jpa.notice.repository.NoticeCustomRepository;
+import com.example.jpa.util.CountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 공지사항 조회수 지연 반영
+ * - 조회시 메모리 버퍼에 증가값만 기록하고, 스케쥴러에서 공지사항별로 합산하여 반영
+ * - 증가값이 같은 공지사항끼리 묶어서 벌크 update 실행
+ * - 트랜잭션은 증가값 묶음마다 따로 실행(묶음 안의 CHUNK_SIZE 단위 update 는 한 트랜잭션), 실패한 묶음만 버퍼로 되돌림
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class NoticeHitCounter {
+
+    private final NoticeCustomRepository noticeCustomRepository;
+
+    private final CountBuffer buffer = new CountBuffer();
+
+
+    public void increase(long noticeId) {
+        buffer.add(noticeId, 1);
+    }
+
+    @PreDestroy
+    public synchronized void flush() {
+
+        List<long[]> list = buffer.drain();
+
+        Map<Long, List<Long>> countMap = new TreeMap<>();
+        list.forEach(e -> countMap.computeIfAbsent(e[1], k -> new ArrayList<>()).add(e[0]));
+
+        for (Map.Entry<Long, List<Long>> entry : countMap.entrySet()) {
+            try {
+                noticeCustomRepository.increaseHits(entry.getValue(), entry.getKey());
+            } catch (Exception e) {
+                log.info("공지사항 조회수 반영 에러:" + e.getMessage());
+                entry.getValue().forEach(id -> buffer.add(id, entry.getKey()));
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.example.jpa.user.controller;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.example.jpa.common.UserPrincipalCache;
+import com.example.jpa.common.model.ResponseResult;
 import com.example.jpa.notice.entity.Notice;
 import com.example.jpa.notice.entity.NoticeLike;
 import com.example.jpa.notice.model.NoticeResponse;
@@ -17,11 +19,15 @@ import com.example.jpa.user.exception.UserNotFoundExcetpion;
 import com.example.jpa.user.model.*;
 import com.example.jpa.user.repository.UserLoginHistoryRepository;
 import com.example.jpa.user.repository.UserRepository;
+import com.example.jpa.user.service.PointService;
+import com.example.jpa.user.service.UserLoginHistoryService;
+import com.example.jpa.user.service.UserSearchIndex;
 import com.example.jpa.user.service.UserService;
 import com.example.jpa.util.JWTUtils;
 import com.example.jpa.util.PasswordUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -45,6 +51,10 @@ public class ApiAdminUserController {
     private final UserLoginHistoryRepository userLoginHistoryRepository;
 
     private final UserService userService;
+    private final UserLoginHistoryService userLoginHistoryService;
+    private final PointService pointService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final UserSearchIndex userSearchIndex;
 
     /**
      * 48. 사용자 목록 과 사용자 수를 함께 내리는 REST API를 작성해 보세요.
@@ -68,6 +78,18 @@ public class ApiAdminUserController {
     }
     */
 
+    /**
+     - 전체 건수는 검색 인덱스의 회원수를 사용(count 쿼리 없음), 페이징 처리
+     */
+    @GetMapping("/api/admin/user")
+    public ResponseEntity<?> userList(@RequestParam(defaultValue = "0") int page
+            , @RequestParam(defaultValue = "20") int size) {
+
+        Page<UserResponse> userList = userSearchIndex.search(null, page, size);
+
+        return ResponseEntity.ok().body(ResponseMessage.success(userList));
+    }
+
 
     /**
      * 49. 사용자 상세 조회를 조회하는 API를 아래 조건에 맞게 구현해 보세요.
@@ -98,6 +120,7 @@ public class ApiAdminUserController {
      * 50. 사용자 목록 조회에 대한 검색을 리턴하는 API를 작성해 보세요.
      * - 이메일, 이름, 전화번호에 대한 검색결과를 리턴(각 항목은 or 조건)
      */
+    /*
     @GetMapping("/api/admin/user/search")
     public ResponseEntity<?> findUser(@RequestBody UserSearch userSearch) {
 
@@ -108,6 +131,20 @@ public class ApiAdminUserController {
 
         return ResponseEntity.ok().body(ResponseMessage.success(userList));
     }
+    */
+
+    /**
+     - 메모리 검색 인덱스로 조회(3글자 이상은 부분일치, 1~2글자는 앞부분일치), 페이징 처리
+     */
+    @GetMapping("/api/admin/user/search")
+    public ResponseEntity<?> findUser(@RequestBody(required = false) UserSearch userSearch
+            , @RequestParam(defaultValue = "0") int page
+            , @RequestParam(defaultValue = "20") int size) {
+
+        Page<UserResponse> userList = userSearchIndex.search(userSearch, page, size);
+
+        return ResponseEntity.ok().body(ResponseMessage.success(userList));
+    }
 
 
     /**
@@ -127,6 +164,7 @@ public class ApiAdminUserController {
 
         user.setStatus(userStatusInput.getStatus());
         userRepository.save(user);
+        userPrincipalCache.evict(user.getEmail());
 
         return ResponseEntity.ok().build();
     }
@@ -151,6 +189,8 @@ public class ApiAdminUserController {
         }
 
         userRepository.delete(user);
+        userSearchIndex.remove(user.getId());
+        userPrincipalCache.evict(user.getEmail());
         return ResponseEntity.ok().build();
     }
 
@@ -160,6 +200,7 @@ public class ApiAdminUserController {
      - 접속이력 정보가 있다는 가정하에 API작성
      - UserLoginHistory 엔터티를 통해서 구현
      */
+    /*
     @GetMapping("/api/admin/user/login/history")
     public ResponseEntity<?> userLoginHistory() {
 
@@ -167,6 +208,32 @@ public class ApiAdminUserController {
 
         return ResponseEntity.ok().body(userLoginHistories);
     }
+    */
+
+    /**
+     - 기간(startDate ~ endDate, 기본 최근 7일)과 회원별 조회, 페이징 처리
+     */
+    @GetMapping("/api/admin/user/login/history")
+    public ResponseEntity<?> userLoginHistory(UserLoginHistorySearch userLoginHistorySearch) {
+
+        Page<UserLoginHistory> userLoginHistories = userLoginHistoryService.list(userLoginHistorySearch);
+
+        return ResponseEntity.ok().body(userLoginHistories);
+    }
+
+    /**
+     - 회원의 최근 로그인 정보(메모리에 유지된 요약정보)
+     */
+    @GetMapping("/api/admin/user/{id}/login/summary")
+    public ResponseEntity<?> userLoginSummary(@PathVariable Long id) {
+
+        UserLoginSummary userLoginSummary = userLoginHistoryService.summary(id);
+        if (userLoginSummary == null) {
+            return new ResponseEntity<>(ResponseMessage.fail("로그인 정보가 존재하지 않습니다."), HttpStatus.BAD_REQUEST);
+        }
+
+        return ResponseEntity.ok().body(ResponseMessage.success(userLoginSummary));
+    }
 
     /**
      54. 사용자의 접속을 제한하는 API를 구현해 보세요.
@@ -187,6 +254,7 @@ public class ApiAdminUserController {
 
         user.setLockYn(true);
         userRepository.save(user);
+        userPrincipalCache.evict(user.getEmail());
 
         return ResponseEntity.ok().body(ResponseMessage.success());
     }
@@ -210,6 +278,7 @@ public class ApiAdminUserController {
 
         user.setLockYn(false);
         userRepository.save(user);
+        userPrincipalCache.evict(user.getEmail());
 
         return ResponseEntity.ok().body(ResponseMessage.success());
     }
@@ -246,9 +315,10 @@ public class ApiAdminUserController {
      58. 사용자별 공지사항의 게시글수 리턴하는 API를 작성해 보세요.
      */
     @GetMapping("/api/admin/user/notice/count")
-    public ResponseEntity<?> userNoticeCount(){
+    public ResponseEntity<?> userNoticeCount(@RequestParam(defaultValue = "0") int page
+            , @RequestParam(defaultValue = "100") int size) {
 
-        List<UserNoticeCount> userNoticeCountList = userService.getUserNoticeCount();
+        List<UserNoticeCount> userNoticeCountList = userService.getUserNoticeCount(page, size);
 
         return ResponseEntity.ok().body(ResponseMessage.success(userNoticeCountList));
     }
@@ -258,9 +328,10 @@ public class ApiAdminUserController {
      59. 사용자별 게시글수와 좋아요수를 리턴하는 API를 작성해 보세요.
      */
     @GetMapping("/api/admin/user/log/count")
-    public ResponseEntity<?> userLogCount() {
+    public ResponseEntity<?> userLogCount(@RequestParam(defaultValue = "0") int page
+            , @RequestParam(defaultValue = "100") int size) {
 
-        List<UserLogCount> userLogCounts = userService.getUserLogCount();
+        List<UserLogCount> userLogCounts = userService.getUserLogCount(page, size);
 
         return ResponseEntity.ok().body(ResponseMessage.success(userLogCounts));
     }
@@ -272,30 +343,29 @@ public class ApiAdminUserController {
     @GetMapping("/api/admin/user/like/best")
     public ResponseEntity<?> bestLikeCount() {
 
-        List<UserLogCount> userLogCounts = userService.getUserLikeBest();
+        List<UserLogCount> userLogCounts = userService.getUserLikeBest(10);
         return ResponseEntity.ok().body(ResponseMessage.success(userLogCounts));
 
 
     }
 
 
+    /**
+     - 캠페인 등 여러 회원에게 포인트를 일괄 적립
+     */
+    @PostMapping("/api/admin/user/point")
+    public ResponseEntity<?> accruePoint(@RequestBody UserPointAccrualInput userPointAccrualInput) {
 
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
+        if (userPointAccrualInput.getUserIdList() == null || userPointAccrualInput.getUserIdList().isEmpty()) {
+            return ResponseResult.fail("적립할 회원 정보가 없습니다.");
+        }
 
+        if (userPointAccrualInput.getUserPointType() == null) {
+            return ResponseResult.fail("포인트 유형이 없습니다.");
+        }
 
+        UserPointAccrualResult result = pointService.accrue(userPointAccrualInput);
+        return ResponseResult.success(result);
+    }
 
+}
@@ -22,6 +22,7 @@ import com.example.jpa.user.exception.UserNotFoundExcetpion;
 import com.example.jpa.user.model.*;
 import com.example.jpa.user.repository.UserRepository;
 import com.example.jpa.user.service.PointService;
+import com.example.jpa.user.service.UserLoginHistoryService;
 import com.example.jpa.user.service.UserService;
 import com.example.jpa.util.JWTUtils;
 import com.example.jpa.util.PasswordUtils;
@@ -50,6 +51,7 @@ public class ApiLoginController {
 
 
     private final UserService userService;
+    private final UserLoginHistoryService userLoginHistoryService;
 
 
     /**
@@ -83,7 +85,8 @@ public class ApiLoginController {
      84. 로그인시 에러가 발생하는 경우 로그에 기록하는 기능을 작성해 보세요.
      */
     @PostMapping("/api/login")
-    public ResponseEntity<?> login(@RequestBody @Valid UserLogin userLogin, Errors errors) {
+    public ResponseEntity<?> login(@RequestBody @Valid UserLogin userLogin, Errors errors
+            , HttpServletRequest request) {
 
         log.info("로그인 함수 !!!!");
 
@@ -104,6 +107,9 @@ public class ApiLoginController {
             log.info("JWT 생성 에러");
             return ResponseResult.fail("JWT 생성에 실패하였습니다.");
         }
+
+        userLoginHistoryService.add(user, request.getRemoteAddr());
+
         return ResponseResult.success(userLoginToken);
     }
 
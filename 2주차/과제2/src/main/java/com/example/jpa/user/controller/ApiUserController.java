@@ -2,11 +2,17 @@ package com.example.jpa.user.controller;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.jpa.board.entity.Board;
 import com.example.jpa.board.entity.BoardComment;
+import com.example.jpa.board.model.BoardActivityFeed;
 import com.example.jpa.board.model.ServiceResult;
 import com.example.jpa.board.service.BoardService;
+import com.example.jpa.common.TokenBlacklist;
+import com.example.jpa.common.UserPrincipalCache;
+import com.example.jpa.common.exception.AuthFailException;
 import com.example.jpa.common.exception.BizException;
 import com.example.jpa.common.model.ResponseResult;
 import com.example.jpa.notice.entity.Notice;
@@ -22,6 +28,7 @@ import com.example.jpa.user.exception.UserNotFoundExcetpion;
 import com.example.jpa.user.model.*;
 import com.example.jpa.user.repository.UserRepository;
 import com.example.jpa.user.service.PointService;
+import com.example.jpa.user.service.UserSearchIndex;
 import com.example.jpa.user.service.UserService;
 import com.example.jpa.util.JWTUtils;
 import com.example.jpa.util.PasswordUtils;
@@ -56,6 +63,10 @@ public class ApiUserController {
     private final PointService pointService;
     private final UserService userService;
 
+    private final TokenBlacklist tokenBlacklist;
+    private final UserPrincipalCache userPrincipalCache;
+    private final UserSearchIndex userSearchIndex;
+
 
     /*
     @PostMapping("/api/user")
@@ -127,6 +138,8 @@ public class ApiUserController {
         user.setPhone(userUpdate.getPhone());
         user.setUpdateDate(LocalDateTime.now());
         userRepository.save(user);
+        userSearchIndex.put(user);
+        userPrincipalCache.evict(user.getEmail());
 
         return ResponseEntity.ok().build();
     }
@@ -276,6 +289,7 @@ public class ApiUserController {
                 .regDate(LocalDateTime.now())
                 .build();
         userRepository.save(user);
+        userSearchIndex.put(user);
 
         return ResponseEntity.ok().build();
     }
@@ -294,6 +308,8 @@ public class ApiUserController {
 
         try {
             userRepository.delete(user);
+            userSearchIndex.remove(user.getId());
+            userPrincipalCache.evict(user.getEmail());
         } catch (DataIntegrityViolationException e) {
             String message = "제약조건에 문제가 발생하였습니다.";
             return new ResponseEntity<>(message, HttpStatus.BAD_REQUEST);
@@ -482,16 +498,14 @@ public class ApiUserController {
     @PatchMapping("/api/user/login")
     public ResponseEntity<?> refreshToken(HttpServletRequest request) {
 
-        String token = request.getHeader("F-TOKEN");
         String email = "";
 
         try {
-            email = JWT.require(Algorithm.HMAC512("fastcampus".getBytes()))
-                    .build()
-                    .verify(token)
-                    .getIssuer();
+            email = JWTUtils.getIssuer(request);
         } catch (SignatureVerificationException e) {
             throw new PasswordNotMatchException("비밀번호가 일치하지 않습니다.");
+        } catch (JWTVerificationException e) {
+            throw new AuthFailException("토근 정보가 정확하지 않습니다.");
         }
 
         User user = userRepository.findByEmail(email)
@@ -517,17 +531,19 @@ public class ApiUserController {
     @DeleteMapping("/api/user/login")
     public ResponseEntity<?> removeToken(@RequestHeader("F-TOKEN") String token) {
 
-        String email = "";
+        DecodedJWT decodedJWT = null;
 
         try {
-            email = JWTUtils.getIssuer(token);
-        } catch (SignatureVerificationException e) {
+            decodedJWT = JWTUtils.verify(token);
+        } catch (JWTVerificationException e) {
+            //서명 오류, 이미 삭제된 토큰
             return new ResponseEntity<>("토근 정보가 정확하지 않습니다.", HttpStatus.BAD_REQUEST);
         }
 
         //세션, 쿠키삭제
         //클라이언트 쿠키/로컬스토리지/세션스토리지
         //블랙리스트 작성
+        tokenBlacklist.revoke(token, decodedJWT);
 
         return ResponseEntity.ok().build();
     }
@@ -537,12 +553,12 @@ public class ApiUserController {
      80. 내가 작성한 게시글 목록을 리턴하는 API를 작성해 보세요.
      */
     @GetMapping("/api/user/board/post")
-    public ResponseEntity<?> myPost(@RequestHeader("F-TOKEN") String token) {
+    public ResponseEntity<?> myPost(HttpServletRequest request) {
 
         String email = "";
         try {
-            email = JWTUtils.getIssuer(token);
-        } catch (SignatureVerificationException e) {
+            email = JWTUtils.getIssuer(request);
+        } catch (JWTVerificationException e) {
             return ResponseResult.fail("토근 정보가 정확하지 않습니다.");
         }
 
@@ -555,12 +571,12 @@ public class ApiUserController {
      81. 내가 작성한 게시글의 코멘트 목록을 리턴하는 API를 작성해 보세요.
      */
     @GetMapping("/api/user/board/comment")
-    public ResponseEntity<?> myComments(@RequestHeader("F-TOKEN") String token) {
+    public ResponseEntity<?> myComments(HttpServletRequest request) {
 
         String email = "";
         try {
-            email = JWTUtils.getIssuer(token);
-        } catch (SignatureVerificationException e) {
+            email = JWTUtils.getIssuer(request);
+        } catch (JWTVerificationException e) {
             return ResponseResult.fail("토근 정보가 정확하지 않습니다.");
         }
 
@@ -569,17 +585,42 @@ public class ApiUserController {
     }
 
 
+    /**
+     내 게시글/코멘트/스크랩/북마크를 최신순으로 합친 활동내역을 리턴(커서 페이징)
+     */
+    @GetMapping("/api/user/board/activity")
+    public ResponseEntity<?> myActivity(HttpServletRequest request
+            , @RequestParam(required = false) String cursor
+            , @RequestParam(defaultValue = "20") int size) {
+
+        UserPrincipal userPrincipal;
+        try {
+            userPrincipal = JWTUtils.getPrincipal(request);
+        } catch (JWTVerificationException e) {
+            return ResponseResult.fail("토근 정보가 정확하지 않습니다.");
+        }
+
+        BoardActivityFeed feed;
+        try {
+            feed = boardService.activityFeed(userPrincipal.getId(), cursor, size);
+        } catch (BizException e) {
+            return ResponseResult.fail(e.getMessage());
+        }
+        return ResponseResult.success(feed);
+    }
+
+
     /**
      82. 사용자의 포인트 정보를 만들고 게시글을 작성할 경우, 포인트를 누적하는 API를 작성해 보세요.
      */
     @PostMapping("/api/user/point")
-    public ResponseEntity<?> userPoint(@RequestHeader("F-TOKEN") String token
+    public ResponseEntity<?> userPoint(HttpServletRequest request
         , @RequestBody UserPointInput userPointInput ) {
 
         String email = "";
         try {
-            email = JWTUtils.getIssuer(token);
-        } catch (SignatureVerificationException e) {
+            email = JWTUtils.getIssuer(request);
+        } catch (JWTVerificationException e) {
             return ResponseResult.fail("토근 정보가 정확하지 않습니다.");
         }
 
@@ -587,6 +628,23 @@ public class ApiUserController {
         return ResponseResult.result(result);
     }
 
+    /**
+     - 포인트 잔액 조회(원장 합계 대신 잔액 테이블 조회)
+     */
+    @GetMapping("/api/user/point")
+    public ResponseEntity<?> userPointBalance(HttpServletRequest request) {
+
+        UserPrincipal userPrincipal;
+        try {
+            userPrincipal = JWTUtils.getPrincipal(request);
+        } catch (JWTVerificationException e) {
+            return ResponseResult.fail("토근 정보가 정확하지 않습니다.");
+        }
+
+        UserPointBalanceResponse result = pointService.getBalance(userPrincipal.getId());
+        return ResponseResult.success(result);
+    }
+
 
     /**
      95. 회원가입시 가입된 회원에게 가입메일을 전송하는 API를 작성해 보세요.
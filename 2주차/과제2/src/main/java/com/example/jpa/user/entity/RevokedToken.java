@@ -0,0 +1,34 @@
+package com.example.jpa.user.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column
+    private String tokenHash;
+
+    @Column
+    private long userId;
+
+    @Column
+    private LocalDateTime expiredDate;
+
+    @Column
+    private LocalDateTime regDate;
+
+}
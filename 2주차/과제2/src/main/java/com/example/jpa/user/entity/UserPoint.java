@@ -31,4 +31,11 @@ public class UserPoint {
     @Column
     private int point;
 
+    //포인트 추가 후 잔액
+    @Column
+    private long balance;
+
+    @Column
+    private LocalDateTime regDate;
+
 }
@@ -0,0 +1,29 @@
+package com.example.jpa.user.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class UserPointBalance {
+
+    @Id
+    private long userId;
+
+    @Column
+    private long balance;
+
+    @Column
+    private LocalDateTime updateDate;
+
+}
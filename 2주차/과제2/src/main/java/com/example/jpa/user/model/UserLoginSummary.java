@@ -0,0 +1,25 @@
+package com.example.jpa.user.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserLoginSummary {
+
+    private long userId;
+    private String email;
+    private String userName;
+
+    private LocalDateTime lastLoginDate;
+    private String lastIpAddr;
+
+    private List<LocalDateTime> recentLoginDateList;
+}
@@ -0,0 +1,23 @@
+package com.example.jpa.user.model;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPointAccrualInput {
+
+    private List<Long> userIdList;
+    private UserPointType userPointType;
+
+    //0 이면 포인트유형의 기본값
+    private int point;
+
+}
@@ -0,0 +1,19 @@
+package com.example.jpa.user.model;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPointAccrualResult {
+
+    private int requestCount;
+    private int accruedCount;
+    private int failedCount;
+
+}
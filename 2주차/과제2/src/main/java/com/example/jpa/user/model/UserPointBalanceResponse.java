@@ -0,0 +1,18 @@
+package com.example.jpa.user.model;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPointBalanceResponse {
+
+    private long userId;
+    private long balance;
+
+}
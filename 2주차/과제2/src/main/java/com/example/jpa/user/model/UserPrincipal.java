@@ -0,0 +1,18 @@
+package com.example.jpa.user.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPrincipal {
+
+    private long id;
+    private String email;
+    private String userName;
+
+}
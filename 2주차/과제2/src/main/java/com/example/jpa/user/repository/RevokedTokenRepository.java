@@ -0,0 +1,25 @@
+package com.example.jpa.user.repository;
+
+import com.example.jpa.user.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    boolean existsByTokenHash(String tokenHash);
+
+    @Query(" select r.tokenHash from RevokedToken r where r.expiredDate > :now ")
+    List<String> findTokenHashByExpiredDateAfter(LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(" delete from RevokedToken r where r.expiredDate <= :now ")
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,29 @@
+package com.example.jpa.user.repository;
+
+import com.example.jpa.user.entity.UserActivityStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface UserActivityStatsRepository extends JpaRepository<UserActivityStats, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(" update UserActivityStats s set s.noticeCount = s.noticeCount + :count, s.updateDate = :now where s.userId = :userId ")
+    int increaseNoticeCount(long userId, long count, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(" update UserActivityStats s set s.noticeLikeCount = s.noticeLikeCount + :count, s.updateDate = :now where s.userId = :userId ")
+    int increaseNoticeLikeCount(long userId, long count, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(" update UserActivityStats s set s.noticeCount = 0, s.updateDate = :now ")
+    int clearNoticeCount(LocalDateTime now);
+}
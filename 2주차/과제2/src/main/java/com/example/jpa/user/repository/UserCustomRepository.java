@@ -8,52 +8,72 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 회원별 공지사항수/좋아요수는 user_activity_stats 에 미리 집계된 값을 조회
+ */
 @RequiredArgsConstructor
 @Repository
 public class UserCustomRepository {
 
     private final EntityManager entityManager;
 
-    public List<UserNoticeCount> findUserNoticeCount() {
+    public List<UserNoticeCount> findUserNoticeCount(int page, int size) {
 
-        String sql = " select u.id, u.email, u.user_name, (select count(*) from Notice n where n.user_id = u.id) notice_count from User u ";
+        String jpql = " select new com.example.jpa.user.model.UserNoticeCount(u.id, u.email, u.userName, coalesce(s.noticeCount, 0L)) "
+                + " from User u left join UserActivityStats s on s.userId = u.id "
+                + " order by u.id ";
 
-        List<UserNoticeCount> list = entityManager.createNativeQuery(sql).getResultList();
-        return list;
+        return entityManager.createQuery(jpql, UserNoticeCount.class)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList();
     }
 
-    public List<UserLogCount> findUserLogCount() {
+    public List<UserLogCount> findUserLogCount(int page, int size) {
 
-        String sql = " select u.id, u.email, u.user_name " +
-                " , (select count(*) from notice n where n.user_id = u.id) notice_count " +
-                " , (select count(*) from notice_like nl where nl.user_id = u.id) notice_like_count " +
-                " from user u ";
+        String jpql = " select new com.example.jpa.user.model.UserLogCount(u.id, u.email, u.userName "
+                + " , coalesce(s.noticeCount, 0L), coalesce(s.noticeLikeCount, 0L)) "
+                + " from User u left join UserActivityStats s on s.userId = u.id "
+                + " order by u.id ";
 
-        List<UserLogCount> list = entityManager.createNativeQuery(sql).getResultList();
-
-        return list;
+        return entityManager.createQuery(jpql, UserLogCount.class)
+                .setFirstResult(page * size)
+                .setMaxResults(size)
+                .getResultList();
     }
 
-    public List<UserLogCount> findUserLikeBest() {
+    public List<UserLogCount> findUserLikeBest(int size) {
+
+        String jpql = " select new com.example.jpa.user.model.UserLogCount(u.id, u.email, u.userName, s.noticeCount, s.noticeLikeCount) "
+                + " from UserActivityStats s join User u on u.id = s.userId "
+                + " order by s.noticeLikeCount desc, s.userId ";
+
+        return entityManager.createQuery(jpql, UserLogCount.class)
+                .setMaxResults(size)
+                .getResultList();
+    }
 
-        String sql = "" +
-                " select t1.id, t1.email, t1.user_name, t1.notice_like_count " +
-                " from " +
-                " ( " +
-                "   select u.*, (select count(*) from notice_like nl where nl.user_id = u.id) as notice_like_count " +
-                "   from user u" +
-                "  ) t1" +
-                " order by t1.notice_like_count desc";
+    /**
+     * 회원별 공지사항수/좋아요수를 원본 테이블 기준으로 다시 집계
+     */
+    @Transactional
+    public int reconcileUserActivityStats() {
 
-        List<UserLogCount> list = entityManager.createNativeQuery(sql).getResultList();
+        entityManager.createNativeQuery(" delete from user_activity_stats ").executeUpdate();
 
-        return list;
+        String sql = " insert into user_activity_stats (user_id, notice_count, notice_like_count, update_date) "
+                + " select u.id, coalesce(n.notice_count, 0), coalesce(nl.notice_like_count, 0), current_timestamp "
+                + " from user u "
+                + " left join (select user_id, count(*) notice_count from notice where deleted = false group by user_id) n on n.user_id = u.id "
+                + " left join (select user_id, count(*) notice_like_count from notice_like group by user_id) nl on nl.user_id = u.id ";
 
+        return entityManager.createNativeQuery(sql).executeUpdate();
     }
 }
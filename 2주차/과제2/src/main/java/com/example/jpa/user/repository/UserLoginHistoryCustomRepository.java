@@ -0,0 +1,32 @@
+package com.example.jpa.user.repository;
+
+import com.example.jpa.user.entity.UserLoginHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class UserLoginHistoryCustomRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * IDENTITY 키 전략에서는 JPA 배치 insert가 되지 않으므로 JDBC 배치로 저장
+     */
+    public void batchInsert(List<UserLoginHistory> list) {
+
+        String sql = " insert into user_login_history (user_id, email, user_name, login_date, ip_addr) values (?, ?, ?, ?, ?) ";
+
+        jdbcTemplate.batchUpdate(sql, list, list.size(), (ps, e) -> {
+            ps.setLong(1, e.getUserId());
+            ps.setString(2, e.getEmail());
+            ps.setString(3, e.getUserName());
+            ps.setTimestamp(4, Timestamp.valueOf(e.getLoginDate()));
+            ps.setString(5, e.getIpAddr());
+        });
+    }
+}
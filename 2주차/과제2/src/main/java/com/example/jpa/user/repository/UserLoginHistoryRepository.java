@@ -2,14 +2,22 @@ package com.example.jpa.user.repository;
 
 import com.example.jpa.user.entity.User;
 import com.example.jpa.user.entity.UserLoginHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserLoginHistoryRepository extends JpaRepository<UserLoginHistory, Long> {
 
+    Page<UserLoginHistory> findByLoginDateGreaterThanEqualAndLoginDateLessThan(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    Page<UserLoginHistory> findByUserIdAndLoginDateGreaterThanEqualAndLoginDateLessThan(long userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    List<UserLoginHistory> findTop5ByUserIdOrderByLoginDateDesc(long userId);
 
 }
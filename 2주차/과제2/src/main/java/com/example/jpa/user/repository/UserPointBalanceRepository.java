@@ -0,0 +1,10 @@
+package com.example.jpa.user.repository;
+
+import com.example.jpa.user.entity.UserPointBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserPointBalanceRepository extends JpaRepository<UserPointBalance, Long> {
+
+}
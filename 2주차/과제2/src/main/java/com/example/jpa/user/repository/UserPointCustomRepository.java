@@ -0,0 +1,142 @@
+package com.example.jpa.user.repository;
+
+import com.example.jpa.user.model.UserPointType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 원장(user_point)과 회원별 잔액(user_point_balance)
+ * - 원장은 추가만 하고, 잔액은 원장 추가와 같은 트랜잭션에서 증감
+ * - 잔액 행을 회원ID 순서로 갱신해서 동시 적립시 데드락을 피함
+ */
+@RequiredArgsConstructor
+@Repository
+public class UserPointCustomRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 회원들에게 포인트를 적립하고 적립 후 잔액을 리턴(한 트랜잭션)
+     * - userIdList 는 중복없이 정렬된 회원ID, 존재하지 않는 회원은 제외
+     */
+    @Transactional
+    public Map<Long, Long> accrue(List<Long> userIdList, UserPointType userPointType, int point, LocalDateTime now) {
+
+        Map<Long, Long> balances = new LinkedHashMap<>();
+        if (userIdList.isEmpty()) {
+            return balances;
+        }
+
+        Timestamp regDate = Timestamp.valueOf(now);
+        String in = userIdList.stream().map(e -> "?").collect(Collectors.joining(","));
+
+        //잔액 행이 없는 회원은 0 으로 추가(동시에 같은 회원을 추가하면 PK 중복 DuplicateKeyException, 서비스에서 다시 실행)
+        List<Object> args = new ArrayList<>();
+        args.add(regDate);
+        args.addAll(userIdList);
+        jdbcTemplate.update(" insert into user_point_balance (user_id, balance, update_date) "
+                + " select u.id, 0, ? from user u "
+                + " where u.id in (" + in + ") "
+                + " and not exists (select 1 from user_point_balance b where b.user_id = u.id) ", args.toArray());
+
+        jdbcTemplate.batchUpdate(" update user_point_balance set balance = balance + ?, update_date = ? where user_id = ? "
+                , userIdList, userIdList.size(), (ps, userId) -> {
+                    ps.setLong(1, point);
+                    ps.setTimestamp(2, regDate);
+                    ps.setLong(3, userId);
+                });
+
+        jdbcTemplate.query(" select user_id, balance from user_point_balance where user_id in (" + in + ") order by user_id "
+                , (RowCallbackHandler) rs -> balances.put(rs.getLong(1), rs.getLong(2)), userIdList.toArray());
+
+        List<Map.Entry<Long, Long>> entryList = new ArrayList<>(balances.entrySet());
+        jdbcTemplate.batchUpdate(" insert into user_point (user_id, user_point_type, point, balance, reg_date) values (?, ?, ?, ?, ?) "
+                , entryList, entryList.size(), (ps, e) -> {
+                    ps.setLong(1, e.getKey());
+                    ps.setString(2, userPointType.name());
+                    ps.setInt(3, point);
+                    ps.setLong(4, e.getValue());
+                    ps.setTimestamp(5, regDate);
+                });
+
+        return balances;
+    }
+
+    /**
+     * 원장 합계와 다른 잔액 조회(잔액 테이블 또는 원장 마지막 행의 잔액)
+     * - 각 항목은 {회원ID, 잔액, 원장합계}
+     */
+    public List<long[]> findBalanceMismatch() {
+
+        String sql = " select u.user_id, coalesce(b.balance, 0), coalesce(p.total, 0) "
+                + " from (select user_id from user_point_balance union select distinct user_id from user_point where user_id is not null) u "
+                + " left join user_point_balance b on b.user_id = u.user_id "
+                + " left join (select user_id, sum(point) total, max(id) last_id from user_point group by user_id) p on p.user_id = u.user_id "
+                + " left join user_point l on l.id = p.last_id "
+                + " where b.user_id is null or b.balance <> coalesce(p.total, 0) "
+                + " or (p.user_id is not null and (l.balance is null or l.balance <> p.total)) ";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)});
+    }
+
+    /**
+     * 잔액을 원장 합계로 보정, 원장 행의 잔액(적립 후 잔액)도 순서대로 다시 계산
+     */
+    @Transactional
+    public int reconcileBalance(List<Long> userIdList, LocalDateTime now) {
+
+        Timestamp updateDate = Timestamp.valueOf(now);
+
+        int count = 0;
+        for (Long userId : userIdList) {
+            int updated = jdbcTemplate.update(" update user_point_balance "
+                    + " set balance = (select coalesce(sum(point), 0) from user_point where user_id = ?), update_date = ? "
+                    + " where user_id = ? ", userId, updateDate, userId);
+
+            if (updated == 0) {
+                updated = jdbcTemplate.update(" insert into user_point_balance (user_id, balance, update_date) "
+                        + " select ?, coalesce(sum(point), 0), ? from user_point where user_id = ? ", userId, updateDate, userId);
+            }
+            count += updated;
+
+            recomputeLedgerBalance(userId);
+        }
+        return count;
+    }
+
+    /**
+     * 회원의 원장 행을 id 순서로 누적하여 잔액이 다른 행만 수정
+     */
+    private void recomputeLedgerBalance(long userId) {
+
+        List<long[]> rows = jdbcTemplate.query(" select id, point, balance from user_point where user_id = ? order by id "
+                , (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)
+                        , rs.getObject(3) == null ? Long.MIN_VALUE : rs.getLong(3)}, userId);
+
+        List<long[]> changedList = new ArrayList<>();
+        long balance = 0;
+        for (long[] row : rows) {
+            balance += row[1];
+            if (row[2] != balance) {
+                changedList.add(new long[]{row[0], balance});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(" update user_point set balance = ? where id = ? "
+                , changedList, changedList.size(), (ps, e) -> {
+                    ps.setLong(1, e[1]);
+                    ps.setLong(2, e[0]);
+                });
+    }
+}
@@ -1,12 +0,0 @@
-package com.example.jpa.user.repository;
-
-import com.example.jpa.user.entity.UserLoginHistory;
-import com.example.jpa.user.entity.UserPoint;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface UserPointRepository extends JpaRepository<UserPoint, Long> {
-
-
-}
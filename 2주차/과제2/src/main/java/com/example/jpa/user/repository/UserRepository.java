@@ -1,6 +1,7 @@
 package com.example.jpa.user.repository;
 
 import com.example.jpa.user.entity.User;
+import com.example.jpa.user.model.UserPrincipal;
 import com.example.jpa.user.model.UserStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -37,4 +38,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     //JPQL
     @Query(" select u from User u where u.regDate between :startDate and :endDate ")
     List<User> findToday(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query(" select new com.example.jpa.user.model.UserPrincipal(u.id, u.email, u.userName) from User u where u.email = :email ")
+    Optional<UserPrincipal> findPrincipalByEmail(String email);
 }
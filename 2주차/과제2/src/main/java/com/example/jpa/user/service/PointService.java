@@ -10,4 +10,19 @@ public interface PointService {
 
     ServiceResult addPoint(String email, UserPointInput userPointInput);
 
+    /**
+     * 회원의 포인트 잔액(원장 합계 대신 잔액 테이블 조회)
+     */
+    UserPointBalanceResponse getBalance(long userId);
+
+    /**
+     * 여러 회원에게 포인트 일괄 적립(ACCRUAL_CHUNK_SIZE 명 단위 트랜잭션)
+     */
+    UserPointAccrualResult accrue(UserPointAccrualInput userPointAccrualInput);
+
+    /**
+     * 잔액을 원장 합계와 비교해서 보정
+     */
+    void reconcile();
+
 }
@@ -2,21 +2,40 @@ package com.example.jpa.user.service;
 
 import com.example.jpa.board.model.ServiceResult;
 import com.example.jpa.user.entity.User;
-import com.example.jpa.user.entity.UserPoint;
+import com.example.jpa.user.model.UserPointAccrualInput;
+import com.example.jpa.user.model.UserPointAccrualResult;
+import com.example.jpa.user.model.UserPointBalanceResponse;
 import com.example.jpa.user.model.UserPointInput;
-import com.example.jpa.user.repository.UserPointRepository;
+import com.example.jpa.user.model.UserPointType;
+import com.example.jpa.user.repository.UserPointBalanceRepository;
+import com.example.jpa.user.repository.UserPointCustomRepository;
 import com.example.jpa.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class PointServiceImpl implements PointService {
 
-    private final UserPointRepository userPointRepository;
+    private static final int ACCRUAL_CHUNK_SIZE = 1000;
+    private static final int ACCRUAL_RETRY_COUNT = 3;
+
     private final UserRepository userRepository;
+    private final UserPointBalanceRepository userPointBalanceRepository;
+    private final UserPointCustomRepository userPointCustomRepository;
 
     @Override
     public ServiceResult addPoint(String email, UserPointInput userPointInput) {
@@ -27,11 +46,97 @@ public class PointServiceImpl implements PointService {
         }
         User user = optionalUser.get();
 
-        userPointRepository.save(UserPoint.builder()
-                .user(user)
-                .userPointType(userPointInput.getUserPointType())
-                .point(userPointInput.getUserPointType().getValue())
-                .build());
+        UserPointType userPointType = userPointInput.getUserPointType();
+        if (userPointType == null) {
+            return ServiceResult.fail("포인트 유형이 없습니다.");
+        }
+
+        accrue(Collections.singletonList(user.getId())
+                , userPointType, userPointType.getValue(), LocalDateTime.now());
         return ServiceResult.success();
     }
+
+    @Override
+    public UserPointBalanceResponse getBalance(long userId) {
+
+        long balance = userPointBalanceRepository.findById(userId)
+                .map(e -> e.getBalance())
+                .orElse(0L);
+
+        return UserPointBalanceResponse.builder()
+                .userId(userId)
+                .balance(balance)
+                .build();
+    }
+
+    @Override
+    public UserPointAccrualResult accrue(UserPointAccrualInput userPointAccrualInput) {
+
+        UserPointType userPointType = userPointAccrualInput.getUserPointType();
+        int point = userPointAccrualInput.getPoint() != 0
+                ? userPointAccrualInput.getPoint()
+                : userPointType.getValue();
+
+        List<Long> userIdList = userPointAccrualInput.getUserIdList().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        int accruedCount = 0;
+        int failedCount = 0;
+
+        //한 묶음이 실패해도 이미 적립된 묶음은 유지하고 다음 묶음을 계속 적립
+        for (int i = 0; i < userIdList.size(); i += ACCRUAL_CHUNK_SIZE) {
+            List<Long> subList = userIdList.subList(i, Math.min(i + ACCRUAL_CHUNK_SIZE, userIdList.size()));
+            try {
+                accruedCount += accrue(subList, userPointType, point, now).size();
+            } catch (RuntimeException e) {
+                log.error("포인트 일괄 적립 실패: " + subList.get(0) + " ~ " + subList.get(subList.size() - 1), e);
+                failedCount += subList.size();
+            }
+        }
+
+        return UserPointAccrualResult.builder()
+                .requestCount(userIdList.size())
+                .accruedCount(accruedCount)
+                .failedCount(failedCount)
+                .build();
+    }
+
+    /**
+     * 동시 적립으로 같은 회원의 잔액 행을 먼저 추가한 경우(PK 중복) 묶음 트랜잭션이 롤백되므로 다시 적립
+     * - 다시 실행할 때는 먼저 추가된 잔액 행이 보여서 증감만 함
+     */
+    private Map<Long, Long> accrue(List<Long> userIdList, UserPointType userPointType, int point, LocalDateTime now) {
+
+        for (int i = 1; ; i++) {
+            try {
+                return userPointCustomRepository.accrue(userIdList, userPointType, point, now);
+            } catch (DuplicateKeyException e) {
+                if (i >= ACCRUAL_RETRY_COUNT) {
+                    throw e;
+                }
+                log.warn("포인트 잔액 행 중복, 다시 적립(" + i + "): " + e.getMessage());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    public void reconcile() {
+
+        List<long[]> mismatchList = userPointCustomRepository.findBalanceMismatch();
+        if (mismatchList.isEmpty()) {
+            return;
+        }
+
+        mismatchList.forEach(e ->
+                log.warn("포인트 잔액 불일치: 회원ID=" + e[0] + ", 잔액=" + e[1] + ", 원장합계=" + e[2]));
+
+        List<Long> userIdList = mismatchList.stream().map(e -> e[0]).collect(Collectors.toList());
+        int count = userPointCustomRepository.reconcileBalance(userIdList, LocalDateTime.now());
+        log.info("포인트 잔액 보정: " + count);
+    }
 }
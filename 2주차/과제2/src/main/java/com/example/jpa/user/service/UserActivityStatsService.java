@@ -0,0 +1,25 @@
+package com.example.jpa.user.service;
+
+public interface UserActivityStatsService {
+
+    /**
+     * 회원의 공지사항수 증감
+     */
+    void increaseNoticeCount(Long userId, long count);
+
+    /**
+     * 회원의 공지사항 좋아요수 증감
+     */
+    void increaseNoticeLikeCount(Long userId, long count);
+
+    /**
+     * 전체 공지사항 삭제시 공지사항수 초기화
+     */
+    void clearNoticeCount();
+
+    /**
+     * 집계값을 원본 테이블 기준으로 재계산
+     */
+    void reconcile();
+
+}
@@ -0,0 +1,85 @@
+package com.example.jpa.user.service;
+
+import com.example.jpa.user.entity.UserActivityStats;
+import com.example.jpa.user.repository.UserActivityStatsRepository;
+import com.example.jpa.user.repository.UserCustomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class UserActivityStatsServiceImpl implements UserActivityStatsService {
+
+    private final UserActivityStatsRepository userActivityStatsRepository;
+    private final UserCustomRepository userCustomRepository;
+
+    @Override
+    public void increaseNoticeCount(Long userId, long count) {
+
+        if (userId == null || count == 0) {
+            return;
+        }
+
+        if (userActivityStatsRepository.increaseNoticeCount(userId, count, LocalDateTime.now()) > 0) {
+            return;
+        }
+
+        if (!insert(userId, count, 0)) {
+            userActivityStatsRepository.increaseNoticeCount(userId, count, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public void increaseNoticeLikeCount(Long userId, long count) {
+
+        if (userId == null || count == 0) {
+            return;
+        }
+
+        if (userActivityStatsRepository.increaseNoticeLikeCount(userId, count, LocalDateTime.now()) > 0) {
+            return;
+        }
+
+        if (!insert(userId, 0, count)) {
+            userActivityStatsRepository.increaseNoticeLikeCount(userId, count, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public void clearNoticeCount() {
+        userActivityStatsRepository.clearNoticeCount(LocalDateTime.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    public void reconcile() {
+
+        int count = userCustomRepository.reconcileUserActivityStats();
+        log.info("회원 활동 집계 재계산: " + count);
+    }
+
+    /**
+     * 집계 행이 없는 경우 추가, 동시에 추가된 경우는 false 리턴
+     */
+    private boolean insert(long userId, long noticeCount, long noticeLikeCount) {
+
+        try {
+            userActivityStatsRepository.saveAndFlush(UserActivityStats.builder()
+                    .userId(userId)
+                    .noticeCount(Math.max(noticeCount, 0))
+                    .noticeLikeCount(Math.max(noticeLikeCount, 0))
+                    .updateDate(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.jpa.user.service;
+
+import com.example.jpa.user.entity.User;
+import com.example.jpa.user.entity.UserLoginHistory;
+import com.example.jpa.user.model.UserLoginHistorySearch;
+import com.example.jpa.user.model.UserLoginSummary;
+import org.springframework.data.domain.Page;
+
+public interface UserLoginHistoryService {
+
+    /**
+     * 로그인 히스토리 등록(저장은 비동기로 모아서 처리)
+     */
+    void add(User user, String ipAddr);
+
+    /**
+     * 쌓여있는 로그인 히스토리를 저장
+     */
+    void flush();
+
+    /**
+     * 로그인 히스토리 목록(기간, 페이징)
+     */
+    Page<UserLoginHistory> list(UserLoginHistorySearch userLoginHistorySearch);
+
+    /**
+     * 회원의 최근 로그인 정보
+     */
+    UserLoginSummary summary(long userId);
+
+}
@@ -0,0 +1,169 @@
+package com.example.jpa.user.service;
+
+import com.example.jpa.user.entity.User;
+import com.example.jpa.user.entity.UserLoginHistory;
+import com.example.jpa.user.model.UserLoginHistorySearch;
+import com.example.jpa.user.model.UserLoginSummary;
+import com.example.jpa.user.repository.UserLoginHistoryCustomRepository;
+import com.example.jpa.user.repository.UserLoginHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class UserLoginHistoryServiceImpl implements UserLoginHistoryService {
+
+    private static final int QUEUE_CAPACITY = 100000;
+    private static final int BATCH_SIZE = 500;
+
+    private static final int RECENT_LOGIN_COUNT = 5;
+    private static final int SUMMARY_MAX_SIZE = 10000;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final UserLoginHistoryRepository userLoginHistoryRepository;
+    private final UserLoginHistoryCustomRepository userLoginHistoryCustomRepository;
+
+    private final BlockingQueue<UserLoginHistory> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+
+    private final Map<Long, UserLoginSummary> summaryMap = Collections.synchronizedMap(
+            new LinkedHashMap<Long, UserLoginSummary>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserLoginSummary> eldest) {
+                    return size() > SUMMARY_MAX_SIZE;
+                }
+            });
+
+    @Override
+    public void add(User user, String ipAddr) {
+
+        UserLoginHistory userLoginHistory = UserLoginHistory.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .userName(user.getUserName())
+                .loginDate(LocalDateTime.now())
+                .ipAddr(ipAddr)
+                .build();
+
+        //메모리에 없으면(재시작, 밀려난 경우) 이전 내역을 DB 에서 읽어서 합침
+        UserLoginSummary loaded = summaryMap.containsKey(user.getId()) ? null : load(user.getId());
+        summaryMap.compute(user.getId(), (k, v) -> toSummary(v != null ? v : loaded, userLoginHistory));
+
+        //큐가 가득 찬 경우는 바로 저장
+        if (!queue.offer(userLoginHistory)) {
+            userLoginHistoryCustomRepository.batchInsert(Collections.singletonList(userLoginHistory));
+        }
+    }
+
+    @PreDestroy
+    @Override
+    public void flush() {
+
+        List<UserLoginHistory> list = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(list, BATCH_SIZE) > 0) {
+            try {
+                userLoginHistoryCustomRepository.batchInsert(list);
+            } catch (Exception e) {
+                log.info("로그인 히스토리 저장 에러:" + e.getMessage());
+                list.forEach(queue::offer);
+                return;
+            }
+            list.clear();
+        }
+    }
+
+    @Override
+    public Page<UserLoginHistory> list(UserLoginHistorySearch search) {
+
+        int size = search.getSize() < 1 ? DEFAULT_PAGE_SIZE : Math.min(search.getSize(), MAX_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(Math.max(search.getPage(), 0), size
+                , Sort.by(Sort.Direction.DESC, "loginDate"));
+
+        LocalDate endDate = search.getEndDate() == null ? LocalDate.now() : search.getEndDate();
+        LocalDate startDate = search.getStartDate() == null ? endDate.minusDays(7) : search.getStartDate();
+
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
+
+        if (search.getUserId() != null) {
+            return userLoginHistoryRepository.findByUserIdAndLoginDateGreaterThanEqualAndLoginDateLessThan(
+                    search.getUserId(), startDateTime, endDateTime, pageRequest);
+        }
+        return userLoginHistoryRepository.findByLoginDateGreaterThanEqualAndLoginDateLessThan(
+                startDateTime, endDateTime, pageRequest);
+    }
+
+    @Override
+    public UserLoginSummary summary(long userId) {
+
+        UserLoginSummary userLoginSummary = summaryMap.get(userId);
+        if (userLoginSummary != null) {
+            return userLoginSummary;
+        }
+
+        userLoginSummary = load(userId);
+        if (userLoginSummary == null) {
+            return null;
+        }
+
+        UserLoginSummary before = summaryMap.putIfAbsent(userId, userLoginSummary);
+        return before != null ? before : userLoginSummary;
+    }
+
+    /**
+     * (user_id, login_date) 인덱스로 최근 내역만 조회하여 요약, 내역이 없으면 null
+     */
+    private UserLoginSummary load(long userId) {
+
+        List<UserLoginHistory> list = userLoginHistoryRepository.findTop5ByUserIdOrderByLoginDateDesc(userId);
+        if (list.isEmpty()) {
+            return null;
+        }
+
+        UserLoginHistory last = list.get(0);
+        return UserLoginSummary.builder()
+                .userId(userId)
+                .email(last.getEmail())
+                .userName(last.getUserName())
+                .lastLoginDate(last.getLoginDate())
+                .lastIpAddr(last.getIpAddr())
+                .recentLoginDateList(list.stream()
+                        .map(UserLoginHistory::getLoginDate)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private UserLoginSummary toSummary(UserLoginSummary before, UserLoginHistory userLoginHistory) {
+
+        List<LocalDateTime> recentLoginDateList = new ArrayList<>(RECENT_LOGIN_COUNT);
+        recentLoginDateList.add(userLoginHistory.getLoginDate());
+        if (before != null && before.getRecentLoginDateList() != null) {
+            before.getRecentLoginDateList().stream()
+                    .limit(RECENT_LOGIN_COUNT - 1)
+                    .forEach(recentLoginDateList::add);
+        }
+
+        return UserLoginSummary.builder()
+                .userId(userLoginHistory.getUserId())
+                .email(userLoginHistory.getEmail())
+                .userName(userLoginHistory.getUserName())
+                .lastLoginDate(userLoginHistory.getLoginDate())
+                .lastIpAddr(userLoginHistory.getIpAddr())
+                .recentLoginDateList(Collections.unmodifiableList(recentLoginDateList))
+                .build();
+    }
+}
@@ -0,0 +1,351 @@
+package com.example.jpa.user.service;
+
+import com.example.jpa.user.entity.User;
+import com.example.jpa.user.model.UserResponse;
+import com.example.jpa.user.model.UserSearch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 회원검색용 메모리 인덱스(이메일, 이름, 전화번호)
+ * - 3글자 이상은 3-gram 역색인으로 부분일치 검색
+ * - 1~2글자는 정렬된 값 목록으로 앞부분일치 검색
+ * - 회원 추가/수정/삭제시 증분 반영, 매일 전체 재생성(수정/삭제로 남은 역색인 정리)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserSearchIndex {
+
+    private static final int GRAM_SIZE = 3;
+    private static final int MAX_RESULTS = 1000;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final char EMAIL = 'e';
+    private static final char USER_NAME = 'n';
+    private static final char PHONE = 'p';
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private NavigableMap<Long, UserResponse> documents = new TreeMap<>();
+    private Map<String, Postings> grams = new HashMap<>();
+    private NavigableSet<String> prefixes = new TreeSet<>();
+
+    //재생성 중에 들어온 변경(재생성 완료 후 새 인덱스에 다시 반영), 재생성 중이 아니면 null
+    private List<Object> pendingChanges;
+
+
+    public void put(User user) {
+
+        UserResponse document = UserResponse.of(user);
+
+        lock.writeLock().lock();
+        try {
+            putDocument(documents, grams, prefixes, document);
+            if (pendingChanges != null) {
+                pendingChanges.add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(documents, prefixes, id);
+            if (pendingChanges != null) {
+                pendingChanges.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색조건(각 항목은 or 조건)에 맞는 회원을 id 순으로 페이징, 검색건수는 최대 MAX_RESULTS 건
+     * - 검색조건이 없으면 전체 회원 목록
+     */
+    public Page<UserResponse> search(UserSearch userSearch, int page, int size) {
+
+        int pageSize = size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), pageSize);
+
+        Map<Character, String> terms = new LinkedHashMap<>();
+        if (userSearch != null) {
+            putTerm(terms, EMAIL, userSearch.getEmail());
+            putTerm(terms, USER_NAME, userSearch.getUserName());
+            putTerm(terms, PHONE, userSearch.getPhone());
+        }
+
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty()) {
+                List<UserResponse> list = documents.values().stream()
+                        .skip(pageRequest.getOffset())
+                        .limit(pageSize)
+                        .collect(Collectors.toList());
+                return new PageImpl<>(list, pageRequest, documents.size());
+            }
+
+            NavigableSet<Long> idSet = new TreeSet<>();
+            terms.forEach((field, term) -> idSet.addAll(find(field, term)));
+
+            List<UserResponse> list = idSet.stream()
+                    .limit(MAX_RESULTS)
+                    .skip(pageRequest.getOffset())
+                    .limit(pageSize)
+                    .map(documents::get)
+                    .collect(Collectors.toList());
+            return new PageImpl<>(list, pageRequest, Math.min(idSet.size(), MAX_RESULTS));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 회원으로 인덱스를 새로 만든 후 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        NavigableMap<Long, UserResponse> newDocuments = new TreeMap<>();
+        Map<String, Postings> newGrams = new HashMap<>();
+        NavigableSet<String> newPrefixes = new TreeSet<>();
+
+        String sql = " select id, email, user_name, phone from user order by id ";
+        try {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+                UserResponse document = UserResponse.builder()
+                        .id(rs.getLong(1))
+                        .email(rs.getString(2))
+                        .userName(rs.getString(3))
+                        .phone(rs.getString(4))
+                        .build();
+                newDocuments.put(document.getId(), document);
+                addDocument(newGrams, newPrefixes, document);
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Object change : pendingChanges) {
+                if (change instanceof UserResponse) {
+                    putDocument(newDocuments, newGrams, newPrefixes, (UserResponse) change);
+                } else {
+                    removeDocument(newDocuments, newPrefixes, (Long) change);
+                }
+            }
+            pendingChanges = null;
+
+            documents = newDocuments;
+            grams = newGrams;
+            prefixes = newPrefixes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("회원 검색 인덱스 재생성: " + newDocuments.size());
+    }
+
+    private Set<Long> find(char field, String term) {
+
+        Set<Long> result = new TreeSet<>();
+
+        //앞부분일치
+        if (term.length() < GRAM_SIZE) {
+            String from = field + term;
+            for (String key : prefixes.subSet(from, true, from + Character.MAX_VALUE, true)) {
+                result.add(Long.parseLong(key.substring(key.lastIndexOf('\u0000') + 1)));
+                if (result.size() >= MAX_RESULTS) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+        //부분일치: 검색어의 모든 3-gram 을 포함하는 회원 중 실제로 포함하는지 확인
+        List<Postings> postingsList = new ArrayList<>();
+        for (String gram : grams(term)) {
+            Postings postings = grams.get(field + gram);
+            if (postings == null) {
+                return result;
+            }
+            postingsList.add(postings);
+        }
+        postingsList.sort(Comparator.comparingInt(e -> e.size));
+
+        Postings smallest = postingsList.get(0);
+        for (int i = 0; i < smallest.size && result.size() < MAX_RESULTS; i++) {
+            long id = smallest.ids[i];
+
+            boolean matched = true;
+            for (int j = 1; j < postingsList.size() && matched; j++) {
+                matched = postingsList.get(j).contains(id);
+            }
+
+            UserResponse document = matched ? documents.get(id) : null;
+            if (document != null && normalize(value(document, field)).contains(term)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static void putTerm(Map<Character, String> terms, char field, String value) {
+
+        String term = normalize(value);
+        if (!term.isEmpty()) {
+            terms.put(field, term);
+        }
+    }
+
+    private static void putDocument(Map<Long, UserResponse> documents, Map<String, Postings> grams
+            , NavigableSet<String> prefixes, UserResponse document) {
+
+        UserResponse old = documents.put(document.getId(), document);
+        if (old != null) {
+            removePrefixes(prefixes, old);
+        }
+        addDocument(grams, prefixes, document);
+    }
+
+    private static void removeDocument(Map<Long, UserResponse> documents, NavigableSet<String> prefixes, long id) {
+
+        UserResponse old = documents.remove(id);
+        if (old != null) {
+            removePrefixes(prefixes, old);
+        }
+    }
+
+    private static void addDocument(Map<String, Postings> grams, NavigableSet<String> prefixes, UserResponse document) {
+
+        for (char field : new char[]{EMAIL, USER_NAME, PHONE}) {
+            String value = normalize(value(document, field));
+            if (value.isEmpty()) {
+                continue;
+            }
+
+            prefixes.add(prefixKey(field, value, document.getId()));
+            for (String gram : grams(value)) {
+                grams.computeIfAbsent(field + gram, k -> new Postings()).add(document.getId());
+            }
+        }
+    }
+
+    //3-gram 역색인은 재생성시 정리(조회시 실제 값으로 다시 확인)
+    private static void removePrefixes(NavigableSet<String> prefixes, UserResponse document) {
+
+        for (char field : new char[]{EMAIL, USER_NAME, PHONE}) {
+            String value = normalize(value(document, field));
+            if (!value.isEmpty()) {
+                prefixes.remove(prefixKey(field, value, document.getId()));
+            }
+        }
+    }
+
+    private static String prefixKey(char field, String value, long id) {
+        return field + value + '\u0000' + id;
+    }
+
+    private static Set<String> grams(String value) {
+
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            result.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return result;
+    }
+
+    private static String value(UserResponse document, char field) {
+
+        switch (field) {
+            case EMAIL:
+                return document.getEmail();
+            case USER_NAME:
+                return document.getUserName();
+            default:
+                return document.getPhone();
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+
+    /**
+     * 회원 id 를 정렬된 상태로 보관하는 역색인 목록
+     */
+    private static class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+
+            int index = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                index = -index - 1;
+            } else if (index < size) {
+                return;
+            }
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+}
@@ -10,13 +10,13 @@ public interface UserService {
 
     UserSummary getUserStatusCount();
     List<User> getTodayUsers();
-    List<UserNoticeCount> getUserNoticeCount();
-    List<UserLogCount> getUserLogCount();
+    List<UserNoticeCount> getUserNoticeCount(int page, int size);
+    List<UserLogCount> getUserLogCount(int page, int size);
 
     /**
      * 좋아요를 가장 많은 한 사용자 목록 리턴
      */
-    List<UserLogCount> getUserLikeBest();
+    List<UserLogCount> getUserLikeBest(int size);
 
     /**
      * 관심사용자 등록
@@ -24,9 +24,13 @@ import java.util.UUID;
 @Service
 public class UserServiceImpl implements UserService {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final UserCustomRepository userCustomRepository;
     private final UserInterestRepository userInterestRepository;
+    private final UserSearchIndex userSearchIndex;
 
     private final MailComponent mailComponent;
     private final MailTemplateRepository mailTemplateRepository;
@@ -56,22 +60,26 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<UserNoticeCount> getUserNoticeCount() {
+    public List<UserNoticeCount> getUserNoticeCount(int page, int size) {
 
-        return userCustomRepository.findUserNoticeCount();
+        return userCustomRepository.findUserNoticeCount(Math.max(page, 0), pageSize(size));
 
     }
 
     @Override
-    public List<UserLogCount> getUserLogCount() {
+    public List<UserLogCount> getUserLogCount(int page, int size) {
 
-        return userCustomRepository.findUserLogCount();
+        return userCustomRepository.findUserLogCount(Math.max(page, 0), pageSize(size));
     }
 
     @Override
-    public List<UserLogCount> getUserLikeBest() {
+    public List<UserLogCount> getUserLikeBest(int size) {
+
+        return userCustomRepository.findUserLikeBest(pageSize(size));
+    }
 
-        return userCustomRepository.findUserLikeBest();
+    private int pageSize(int size) {
+        return size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
     }
 
     @Override
@@ -168,6 +176,7 @@ public class UserServiceImpl implements UserService {
                 .status(UserStatus.Using)
                 .build();
         userRepository.save(user);
+        userSearchIndex.put(user);
 
         //메일을 전송.
         String fromEmail = "mapo.lib.02@gmail.com";
@@ -0,0 +1,75 @@
+package com.example.jpa.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 문자열 키에 대한 블룸필터
+ * - mightContain 이 false 이면 절대 포함되지 않은 키
+ * - true 이면 오탐(false positive)일 수 있으므로 정확한 조회가 필요
+ */
+public class BloomFilter {
+
+    private final long[] bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+
+        int n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        this.bitSize = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new long[(bitSize + 63) / 64];
+    }
+
+    public synchronized void put(String key) {
+
+        long hash1 = hash(key);
+        long hash2 = mix(hash1) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash1 + i * hash2);
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    public synchronized boolean mightContain(String key) {
+
+        long hash1 = hash(key);
+        long hash2 = mix(hash1) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash1 + i * hash2);
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long combinedHash) {
+        return (int) ((combinedHash & Long.MAX_VALUE) % bitSize);
+    }
+
+    //FNV-1a 64bit
+    private static long hash(String key) {
+
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
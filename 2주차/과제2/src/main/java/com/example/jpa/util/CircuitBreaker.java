@@ -0,0 +1,101 @@
+package com.example.jpa.util;
+
+import com.example.jpa.common.exception.BizException;
+import com.example.jpa.common.exception.ExternalApiException;
+
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출용 서킷브레이커
+ * - 연속 실패가 failureThreshold 번이면 openMillis 동안 호출하지 않고 바로 실패(OPEN)
+ * - openMillis 가 지나면 한 요청만 시험 호출(HALF_OPEN), 성공하면 CLOSED 로 복구
+ * - 외부 API 장애(ExternalApiException)만 실패로 집계, 그 외 예외(잘못된 요청 등)는 집계하지 않음
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int failureCount;
+    private long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+
+        if (!allowRequest()) {
+            throw new CircuitBreakerOpenException(name);
+        }
+
+        try {
+            T result = supplier.get();
+            recordSuccess();
+            return result;
+        } catch (ExternalApiException e) {
+            recordFailure();
+            throw e;
+        } catch (RuntimeException e) {
+            recordIgnored();
+            throw e;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private synchronized boolean allowRequest() {
+
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+
+        //HALF_OPEN 상태에서는 시험 호출 결과가 나올때까지 차단
+        return false;
+    }
+
+    private synchronized void recordSuccess() {
+        state = State.CLOSED;
+        failureCount = 0;
+    }
+
+    private synchronized void recordFailure() {
+
+        failureCount++;
+        if (state == State.HALF_OPEN || failureCount >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 시험 호출이 장애와 관계없는 예외로 끝난 경우 다음 요청이 다시 시험 호출하도록 OPEN 으로 되돌림
+     */
+    private synchronized void recordIgnored() {
+
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    public static class CircuitBreakerOpenException extends BizException {
+        public CircuitBreakerOpenException(String name) {
+            super(name + " 호출이 일시적으로 차단되었습니다.");
+        }
+    }
+}
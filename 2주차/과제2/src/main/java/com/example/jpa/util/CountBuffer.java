@@ -0,0 +1,49 @@
+package com.example.jpa.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키별 증감값을 모아두었다가 한번에 반영하기 위한 버퍼
+ * - 같은 키의 증감은 하나의 값으로 합쳐짐(coalescing)
+ * - drain 은 키 단위로 원자적으로 꺼내므로 동시에 들어온 증감이 누락되지 않음
+ */
+public class CountBuffer {
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public void add(long key, long delta) {
+        if (delta != 0) {
+            pending.merge(key, delta, Long::sum);
+        }
+    }
+
+    public long get(long key) {
+        return pending.getOrDefault(key, 0L);
+    }
+
+    public List<long[]> drain() {
+
+        List<long[]> list = new ArrayList<>();
+        for (Long key : pending.keySet()) {
+            Long delta = pending.remove(key);
+            if (delta != null && delta != 0) {
+                list.add(new long[]{key, delta});
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 반영에 실패한 증감값을 다시 버퍼에 추가
+     */
+    public void restore(List<long[]> list) {
+        list.forEach(e -> add(e[0], e[1]));
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+}
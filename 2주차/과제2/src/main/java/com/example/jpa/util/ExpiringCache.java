@@ -0,0 +1,124 @@
+package com.example.jpa.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 최대 건수(LRU)와 TTL 이 있는 캐시
+ * - 같은 키를 동시에 조회하면 한 요청만 loader 를 호출하고 나머지는 그 결과를 기다림
+ * - loader 에서 발생한 예외는 기다리던 요청에 모두 전달되고 캐시에는 저장하지 않음
+ * - loader 가 null 을 리턴하면 캐시에 저장하지 않음
+ */
+public class ExpiringCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Map<K, Entry<V>> entries;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    public ExpiringCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > ExpiringCache.this.maxSize;
+            }
+        };
+    }
+
+    public V get(K key) {
+
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.expiredAt <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    public V get(K key, Supplier<V> loader) {
+
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> current = loading.putIfAbsent(key, future);
+        if (current != null) {
+            return join(current);
+        }
+
+        try {
+            //다른 요청의 load 가 끝난 직후일 수 있으므로 캐시를 다시 확인
+            value = get(key);
+            if (value == null) {
+                value = loader.get();
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    public void put(K key, V value) {
+
+        long expiredAt = System.currentTimeMillis() + ttlMillis;
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, expiredAt));
+        }
+    }
+
+    public void remove(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expiredAt;
+
+        Entry(V value, long expiredAt) {
+            this.value = value;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
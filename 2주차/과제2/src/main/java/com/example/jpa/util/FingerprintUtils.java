@@ -0,0 +1,55 @@
+package com.example.jpa.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+@UtilityClass
+public class FingerprintUtils {
+
+    /**
+     * 제목+내용의 128bit 해시(hex 32자리)
+     * - 앞뒤 공백 제거, 연속 공백은 하나로, 대소문자 구분 없이 비교
+     */
+    public static String contentHash(String title, String contents) {
+
+        String value = normalize(title) + "\n" + normalize(contents);
+
+        return hex("MD5", value);
+    }
+
+    /**
+     * 원문 그대로의 SHA-256 해시(hex 64자리)
+     */
+    public static String textHash(String text) {
+
+        return hex("SHA-256", text == null ? "" : text);
+    }
+
+    private static String hex(String algorithm, String value) {
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(algorithm);
+            byte[] digest = messageDigest.digest(value.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+                sb.append(Character.forDigit(b & 0xf, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String normalize(String value) {
+
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.jpa.util;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 검증이 끝난 JWT 토큰의 클레임 캐시
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용
+ * - 만료시간은 캐시 TTL 과 토큰의 exp 중 빠른 시간
+ * - 최대 건수를 넘으면 가장 오래 사용하지 않은 토큰부터 제거(LRU)
+ */
+class JWTTokenCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Map<String, Entry> entries;
+
+    JWTTokenCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > JWTTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    DecodedJWT get(String token) {
+
+        String key = JWTUtils.hashToken(token);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.expiredAt <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.decodedJWT;
+        }
+    }
+
+    void put(String token, DecodedJWT decodedJWT) {
+
+        long expiredAt = System.currentTimeMillis() + ttlMillis;
+        Date expiresAt = decodedJWT.getExpiresAt();
+        if (expiresAt != null) {
+            expiredAt = Math.min(expiredAt, expiresAt.getTime());
+        }
+
+        String key = JWTUtils.hashToken(token);
+        synchronized (entries) {
+            entries.put(key, new Entry(decodedJWT, expiredAt));
+        }
+    }
+
+    void remove(String token) {
+
+        String key = JWTUtils.hashToken(token);
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    private static class Entry {
+
+        private final DecodedJWT decodedJWT;
+        private final long expiredAt;
+
+        Entry(DecodedJWT decodedJWT, long expiredAt) {
+            this.decodedJWT = decodedJWT;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
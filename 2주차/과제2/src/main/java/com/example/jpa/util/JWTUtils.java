@@ -1,19 +1,42 @@
 package com.example.jpa.util;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.jpa.user.entity.User;
 import com.example.jpa.user.model.UserLoginToken;
+import com.example.jpa.user.model.UserPrincipal;
 import lombok.experimental.UtilityClass;
 
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Date;
+import java.util.function.Predicate;
 
 @UtilityClass
 public class JWTUtils {
 
     private static final String KEY = "fastcampus";
-    private static final String CLAIM_USER_ID = "user_id";
+    public static final String CLAIM_USER_ID = "user_id";
+
+    public static final String TOKEN_HEADER = "F-TOKEN";
+    public static final String PRINCIPAL_ATTRIBUTE = JWTUtils.class.getName() + ".PRINCIPAL";
+
+    private static final Algorithm ALGORITHM = Algorithm.HMAC512(KEY.getBytes());
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build();
+
+    //검증된 토큰은 10분동안(토큰 만료시간 이내) 다시 서명검증을 하지 않음
+    private static final JWTTokenCache TOKEN_CACHE = new JWTTokenCache(10000, 1000 * 60 * 10);
+
+    //삭제(로그아웃)된 토큰 확인(TokenBlacklist 에서 설정), 인터셉터를 거치지 않는 경로도 검증시 확인
+    private static volatile Predicate<String> revokedChecker = token -> false;
 
 
     public static UserLoginToken createToken(User user) {
@@ -30,23 +53,94 @@ public class JWTUtils {
                 .withClaim(CLAIM_USER_ID, user.getId())
                 .withSubject(user.getUserName())
                 .withIssuer(user.getEmail())
-                .sign(Algorithm.HMAC512(KEY.getBytes()));
+                .sign(ALGORITHM);
 
         return UserLoginToken.builder()
                 .token(token)
                 .build();
     }
 
+    public static DecodedJWT verify(String token) {
+
+        if (token == null) {
+            throw new JWTDecodeException("토큰 정보가 없습니다.");
+        }
+
+        DecodedJWT decodedJWT = TOKEN_CACHE.get(token);
+        if (decodedJWT == null) {
+            decodedJWT = VERIFIER.verify(token);
+            TOKEN_CACHE.put(token, decodedJWT);
+        }
+
+        if (revokedChecker.test(token)) {
+            throw new JWTVerificationException("삭제된 토큰 입니다.");
+        }
+
+        return decodedJWT;
+    }
+
+    public static void setRevokedChecker(Predicate<String> checker) {
+        revokedChecker = checker;
+    }
+
     public static String getIssuer(String token) {
 
-        String issuer = JWT.require(Algorithm.HMAC512(KEY.getBytes()))
-                .build()
-                .verify(token)
-                .getIssuer();
+        String issuer = verify(token).getIssuer();
 
         return issuer;
 
     }
 
+    public static UserPrincipal getPrincipal(String token) {
+
+        DecodedJWT decodedJWT = verify(token);
+
+        Long userId = decodedJWT.getClaim(CLAIM_USER_ID).asLong();
+
+        return UserPrincipal.builder()
+                .id(userId == null ? 0 : userId)
+                .email(decodedJWT.getIssuer())
+                .userName(decodedJWT.getSubject())
+                .build();
+    }
+
+    /**
+     * 인터셉터에서 저장한 인증정보를 리턴
+     * - 인터셉터를 거치지 않은 요청은 헤더의 토큰을 검증한 후 저장
+     */
+    public static UserPrincipal getPrincipal(HttpServletRequest request) {
+
+        Object principal = request.getAttribute(PRINCIPAL_ATTRIBUTE);
+        if (principal instanceof UserPrincipal) {
+            return (UserPrincipal) principal;
+        }
+
+        UserPrincipal userPrincipal = getPrincipal(request.getHeader(TOKEN_HEADER));
+        request.setAttribute(PRINCIPAL_ATTRIBUTE, userPrincipal);
+
+        return userPrincipal;
+    }
+
+    public static String getIssuer(HttpServletRequest request) {
+        return getPrincipal(request).getEmail();
+    }
+
+    public static void evict(String token) {
+        TOKEN_CACHE.remove(token);
+    }
+
+    /**
+     * 토큰 원문을 저장하지 않기 위한 SHA-256 해시값
+     */
+    public static String hashToken(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 
 }
@@ -35,10 +35,14 @@ create table NOTICE
     DELETED_DATE   TIMESTAMP,
     DELETED        BOOLEAN,
 
+    CONTENT_HASH   VARCHAR(32),
+
     USER_ID         BIGINT,
     constraint FK_NOTICE_USER_ID foreign key(USER_ID) references USER(ID)
 );
 
+create index IX_NOTICE_CONTENT_HASH_REG_DATE on NOTICE (CONTENT_HASH, REG_DATE);
+
 -- auto-generated definition
 create table NOTICE_LIKE
 (
@@ -46,7 +50,8 @@ create table NOTICE_LIKE
     NOTICE_ID   BIGINT,
     USER_ID     BIGINT not null,
     constraint  FK_NOTICE_LIKE_NOTICE_ID foreign key (NOTICE_ID) references NOTICE (ID),
-    constraint  FK_NOTICE_LIKE_USER_ID foreign key (USER_ID) references USER (ID)
+    constraint  FK_NOTICE_LIKE_USER_ID foreign key (USER_ID) references USER (ID),
+    constraint  UX_NOTICE_LIKE_NOTICE_ID_USER_ID unique (NOTICE_ID, USER_ID)
 );
 
 
@@ -60,6 +65,9 @@ create table USER_LOGIN_HISTORY
     IP_ADDR   VARCHAR(255)
 );
 
+create index IX_USER_LOGIN_HISTORY_USER_ID_LOGIN_DATE on USER_LOGIN_HISTORY (USER_ID, LOGIN_DATE);
+create index IX_USER_LOGIN_HISTORY_LOGIN_DATE on USER_LOGIN_HISTORY (LOGIN_DATE);
+
 create table BOARD_TYPE
 (
     ID          BIGINT auto_increment primary key,
@@ -67,7 +75,9 @@ create table BOARD_TYPE
     REG_DATE    TIMESTAMP,
     UPDATE_DATE TIMESTAMP,
 
-    USING_YN    BOOLEAN
+    USING_YN    BOOLEAN,
+
+    BOARD_COUNT BIGINT not null default 0
 );
 
 
@@ -88,6 +98,10 @@ create table BOARD
 
     REPLY_CONTENTS      CLOB,
 
+    LIKE_COUNT          BIGINT not null default 0,
+    HITS                BIGINT not null default 0,
+    UNIQUE_VIEWER_COUNT BIGINT not null default 0,
+
     constraint FK_BOARD_BOARD_TYPE_ID foreign key (BOARD_TYPE_ID) references BOARD_TYPE (ID),
     constraint FK_BOARD_USER_ID foreign key (USER_ID) references USER (ID)
 );
@@ -113,7 +127,8 @@ create table BOARD_LIKE
     BOARD_ID    BIGINT,
     USER_ID     BIGINT,
     constraint FK_BOARD_LIKE_BOARD_ID foreign key (BOARD_ID) references BOARD (ID),
-    constraint FK_BOARD_LIKE_USER_ID foreign key (USER_ID) references USER (ID)
+    constraint FK_BOARD_LIKE_USER_ID foreign key (USER_ID) references USER (ID),
+    constraint UK_BOARD_LIKE_BOARD_ID_USER_ID unique (BOARD_ID, USER_ID)
 );
 
 
@@ -204,9 +219,22 @@ create table USER_POINT
     POINT               INTEGER,
     USER_POINT_TYPE     VARCHAR(255),
     USER_ID             BIGINT,
+    BALANCE             BIGINT,
+    REG_DATE            TIMESTAMP,
     constraint          FK_USER_POINT_USER_ID foreign key (USER_ID) references USER (ID)
 );
 
+create index IX_USER_POINT_USER_ID_ID on USER_POINT (USER_ID, ID);
+
+-- 회원별 포인트 잔액(포인트 원장 추가와 같은 트랜잭션에서 증감, 매일 원장 합계로 검증)
+create table USER_POINT_BALANCE
+(
+    USER_ID             BIGINT primary key,
+    BALANCE             BIGINT not null default 0,
+    UPDATE_DATE         TIMESTAMP,
+    constraint          FK_USER_POINT_BALANCE_USER_ID foreign key (USER_ID) references USER (ID)
+);
+
 
 
 
@@ -244,3 +272,59 @@ create table MAIL_TEMPLATE
 
 
 
+
+
+-- 삭제(로그아웃)된 JWT 토큰
+create table REVOKED_TOKEN
+(
+    ID              BIGINT auto_increment primary key,
+    TOKEN_HASH      VARCHAR(64) not null,
+    USER_ID         BIGINT,
+    EXPIRED_DATE    TIMESTAMP,
+    REG_DATE        TIMESTAMP,
+    constraint UK_REVOKED_TOKEN_TOKEN_HASH unique (TOKEN_HASH)
+);
+
+create index IX_REVOKED_TOKEN_EXPIRED_DATE on REVOKED_TOKEN (EXPIRED_DATE);
+
+
+-- 회원별 공지사항수/좋아요수 집계(공지사항 등록/삭제시 증감, 매일 보정)
+create table USER_ACTIVITY_STATS
+(
+    USER_ID             BIGINT primary key,
+    NOTICE_COUNT        BIGINT not null default 0,
+    NOTICE_LIKE_COUNT   BIGINT not null default 0,
+    UPDATE_DATE         TIMESTAMP
+);
+
+create index IX_USER_ACTIVITY_STATS_NOTICE_LIKE_COUNT on USER_ACTIVITY_STATS (NOTICE_LIKE_COUNT desc, USER_ID);
+
+
+-- 게시글별 조회자 HyperLogLog 레지스터(게시글당 1건)
+create table BOARD_HIT_SKETCH
+(
+    BOARD_ID    BIGINT primary key,
+    SKETCH      VARBINARY(4096),
+    UPDATE_DATE TIMESTAMP
+);
+
+
+-- 회원별 활동내역(게시글/코멘트/스크랩/북마크) 키셋 조회용
+create index IX_BOARD_USER_ID_REG_DATE on BOARD (USER_ID, REG_DATE, ID);
+create index IX_BOARD_COMMENT_USER_ID_REG_DATE on BOARD_COMMENT (USER_ID, REG_DATE, ID);
+create index IX_BOARD_SCRAP_USER_ID_REG_DATE on BOARD_SCRAP (USER_ID, REG_DATE, ID);
+create index IX_BOARD_BOOKMARK_USER_ID_REG_DATE on BOARD_BOOKMARK (USER_ID, REG_DATE, ID);
+
+
+-- 번역결과 캐시(번역업체/원본언어/대상언어/원문 SHA-256 해시별 1건)
+create table TRANSLATION_CACHE
+(
+    ID                  BIGINT auto_increment primary key,
+    PROVIDER            VARCHAR(20),
+    SOURCE_LANG         VARCHAR(10),
+    TARGET_LANG         VARCHAR(10),
+    TEXT_HASH           VARCHAR(64),
+    TRANSLATED_TEXT     CLOB,
+    REG_DATE            TIMESTAMP,
+    constraint          UK_TRANSLATION_CACHE unique (TEXT_HASH, SOURCE_LANG, TARGET_LANG, PROVIDER)
+);
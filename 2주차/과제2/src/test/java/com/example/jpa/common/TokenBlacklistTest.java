@@ -0,0 +1,86 @@
+package com.example.jpa.common;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.example.jpa.user.entity.User;
+import com.example.jpa.util.JWTUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 삭제(로그아웃)된 토큰이 하위 경로 API, 인터셉터를 거치지 않는 인증정보 조회에서도 차단되는지 확인
+ */
+@SpringBootTest
+class TokenBlacklistTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    //data.sql 의 회원
+    private static String createToken(long id, String email) {
+        return JWTUtils.createToken(User.builder()
+                .id(id)
+                .email(email)
+                .userName("회원")
+                .build()).getToken();
+    }
+
+    private String myPost(String token) throws Exception {
+        return mockMvc.perform(get("/api/user/board/post").header(JWTUtils.TOKEN_HEADER, token))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void rejectsRevokedTokenOnNestedPath() throws Exception {
+
+        String token = createToken(1L, "satcop@naver.com");
+
+        assertFalse(myPost(token).contains("[인증실패]"));
+
+        mockMvc.perform(delete("/api/user/login").header(JWTUtils.TOKEN_HEADER, token))
+                .andExpect(status().isOk());
+
+        assertTrue(myPost(token).contains("[인증실패]"));
+
+        //다시 삭제 요청해도 이미 삭제된 토큰
+        mockMvc.perform(delete("/api/user/login").header(JWTUtils.TOKEN_HEADER, token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsRevokedTokenWithoutInterceptor() throws Exception {
+
+        String token = createToken(2L, "webtattoo@kakao.com");
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(JWTUtils.TOKEN_HEADER, token);
+        assertEquals("webtattoo@kakao.com", JWTUtils.getIssuer(request));
+
+        mockMvc.perform(delete("/api/user/login").header(JWTUtils.TOKEN_HEADER, token))
+                .andExpect(status().isOk());
+
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.addHeader(JWTUtils.TOKEN_HEADER, token);
+        assertThrows(JWTVerificationException.class, () -> JWTUtils.getIssuer(next));
+        assertThrows(JWTVerificationException.class, () -> JWTUtils.getIssuer(token));
+    }
+}
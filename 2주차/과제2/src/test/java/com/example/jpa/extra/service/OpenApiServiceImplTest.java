@@ -0,0 +1,108 @@
+package com.example.jpa.extra.service;
+
+import com.example.jpa.common.exception.BizException;
+import com.example.jpa.common.properties.OpenApiProperties;
+import com.example.jpa.config.RestTemplateConfiguration;
+import com.example.jpa.extra.model.AirInput;
+import com.example.jpa.extra.model.OpenApiResult;
+import com.example.jpa.extra.model.PharmacySearch;
+import com.example.jpa.util.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 스텁 서버로 공공데이터포털 API 를 대신해서 캐시/타임아웃/서킷브레이커 확인
+ * - 같은 조회조건 동시요청은 ExpiringCacheTest 에서 확인
+ */
+class OpenApiServiceImplTest {
+
+    private static final String PHARMACY_RESULT = "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"}"
+            + ",\"body\":{\"items\":{\"item\":[{\"dutyName\":\"테스트약국\",\"rnum\":1}]},\"numOfRows\":10,\"pageNo\":1,\"totalCount\":1}}}";
+
+    private StubApiServer server;
+
+    private OpenApiService openApiService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        server = new StubApiServer();
+        server.handle("/pharmacy", PHARMACY_RESULT);
+        server.handle("/air", exchange -> "{\"sido\":\"" + exchange.getRequestURI().getQuery() + "\"}");
+
+        OpenApiProperties openApiProperties = new OpenApiProperties();
+        openApiProperties.setServiceKey("test");
+        openApiProperties.setPharmacyUrl(server.url("/pharmacy"));
+        openApiProperties.setAirUrl(server.url("/air"));
+        openApiProperties.setReadTimeout(500);
+        openApiProperties.setFailureThreshold(3);
+        openApiProperties.setCircuitOpenTime(300);
+
+        openApiService = new OpenApiServiceImpl(RestTemplateConfiguration.createRestTemplate(openApiProperties)
+                , Jackson2ObjectMapperBuilder.json().build()
+                , openApiProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void cachesBySidoAndGugun() {
+
+        OpenApiResult result = openApiService.getPharmacy(new PharmacySearch("서울특별시", "강남구"));
+        openApiService.getPharmacy(new PharmacySearch("서울특별시", "강남구"));
+        openApiService.getPharmacy(new PharmacySearch("서울특별시", "서초구"));
+
+        assertEquals("테스트약국", result.getResponse().getBody().getItems().getItem().get(0).getDutyName());
+        assertEquals(2, server.count("/pharmacy"));
+    }
+
+    @Test
+    void failsOnReadTimeout() {
+
+        server.setDelayMillis(1000);
+
+        assertThrows(BizException.class, () -> openApiService.getAir(new AirInput("부산")));
+    }
+
+    @Test
+    void opensCircuitAfterFailures() throws Exception {
+
+        server.setStatus("/air", 500);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(BizException.class, () -> openApiService.getAir(new AirInput("대구")));
+        }
+        assertThrows(CircuitBreaker.CircuitBreakerOpenException.class, () -> openApiService.getAir(new AirInput("대구")));
+        assertEquals(3, server.count("/air"));
+
+        //차단시간이 지난 후 시험 호출이 성공하면 다시 호출
+        server.setStatus("/air", 200);
+        Thread.sleep(400);
+
+        assertNotNull(openApiService.getAir(new AirInput("대구")));
+        assertEquals(4, server.count("/air"));
+    }
+
+    @Test
+    void badRequestsDoNotOpenCircuit() {
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(BizException.class, () -> openApiService.getPharmacy(new PharmacySearch(null, "강남구")));
+            assertThrows(BizException.class, () -> openApiService.getAir(new AirInput("")));
+        }
+
+        assertNotNull(openApiService.getPharmacy(new PharmacySearch("서울특별시", "강남구")));
+        assertNotNull(openApiService.getAir(new AirInput("광주")));
+        assertEquals(1, server.count("/pharmacy"));
+        assertEquals(1, server.count("/air"));
+    }
+}
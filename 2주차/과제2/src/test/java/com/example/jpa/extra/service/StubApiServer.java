@@ -0,0 +1,90 @@
+package com.example.jpa.extra.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 외부 API 대신 사용하는 로컬 스텁 서버
+ * - 경로별로 JSON 응답을 돌려주고 호출 횟수를 셈
+ * - 경로별 응답코드, 전체 응답 지연시간을 테스트 중에 바꿀 수 있음
+ */
+class StubApiServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+    private final Map<String, AtomicInteger> countMap = new ConcurrentHashMap<>();
+    private final Map<String, Integer> statusMap = new ConcurrentHashMap<>();
+
+    private volatile long delayMillis = 0;
+
+    StubApiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executorService);
+        server.start();
+    }
+
+    void handle(String path, Function<HttpExchange, String> body) {
+
+        AtomicInteger count = new AtomicInteger();
+        countMap.put(path, count);
+
+        server.createContext(path, exchange -> {
+            count.incrementAndGet();
+            respond(exchange, statusMap.getOrDefault(path, 200), body.apply(exchange));
+        });
+    }
+
+    void handle(String path, String body) {
+        handle(path, exchange -> body);
+    }
+
+    String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    int count(String path) {
+        return countMap.get(path).get();
+    }
+
+    void setStatus(String path, int status) {
+        statusMap.put(path, status);
+    }
+
+    void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(bytes);
+        out.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executorService.shutdownNow();
+    }
+}
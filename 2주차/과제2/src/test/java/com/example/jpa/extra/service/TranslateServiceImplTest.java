@@ -0,0 +1,134 @@
+package com.example.jpa.extra.service;
+
+import com.example.jpa.common.exception.BizException;
+import com.example.jpa.common.properties.KakaoAppProperties;
+import com.example.jpa.common.properties.NaverAppProperties;
+import com.example.jpa.common.properties.TranslateProperties;
+import com.example.jpa.config.RestTemplateConfiguration;
+import com.example.jpa.extra.entity.TranslationCache;
+import com.example.jpa.extra.model.TranslateProvider;
+import com.example.jpa.extra.model.TranslateResult;
+import com.example.jpa.extra.repository.TranslationCacheRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 스텁 서버로 네이버/카카오 번역 API 를 대신해서 캐시/장애대체 확인
+ */
+class TranslateServiceImplTest {
+
+    private StubApiServer server;
+
+    //DB 대신 메모리에 저장
+    private final List<TranslationCache> savedList = new CopyOnWriteArrayList<>();
+    private TranslationCacheRepository translationCacheRepository;
+
+    private TranslateProperties translateProperties;
+    private NaverAppProperties naverAppProperties;
+    private KakaoAppProperties kakaoAppProperties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        server = new StubApiServer();
+        server.handle("/naver", "{\"message\":{\"result\":{\"srcLangType\":\"ko\",\"tarLangType\":\"en\",\"translatedText\":\"Hello\"}}}");
+        server.handle("/kakao", "{\"translated_text\":[[\"Hello.\"],[\"Nice to meet you.\"]]}");
+
+        translateProperties = new TranslateProperties();
+        translateProperties.setReadTimeout(1000);
+
+        naverAppProperties = new NaverAppProperties();
+        naverAppProperties.setClientId("test");
+        naverAppProperties.setClientSecret("test");
+        naverAppProperties.setTranslateUrl(server.url("/naver"));
+
+        kakaoAppProperties = new KakaoAppProperties();
+        kakaoAppProperties.setRestApiKey("test");
+        kakaoAppProperties.setTranslateUrl(server.url("/kakao"));
+
+        translationCacheRepository = mock(TranslationCacheRepository.class);
+        when(translationCacheRepository.save(any(TranslationCache.class))).thenAnswer(invocation -> {
+            TranslationCache translationCache = invocation.getArgument(0);
+            savedList.add(translationCache);
+            return translationCache;
+        });
+        when(translationCacheRepository.findByTextHashAndSourceLangAndTargetLang(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> savedList.stream()
+                        .filter(e -> e.getTextHash().equals(invocation.getArgument(0))
+                                && e.getSourceLang().equals(invocation.getArgument(1))
+                                && e.getTargetLang().equals(invocation.getArgument(2)))
+                        .collect(Collectors.toList()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private TranslateService newTranslateService() {
+        return new TranslateServiceImpl(RestTemplateConfiguration.createRestTemplate(translateProperties)
+                , Jackson2ObjectMapperBuilder.json().build()
+                , naverAppProperties
+                , kakaoAppProperties
+                , translationCacheRepository);
+    }
+
+    @Test
+    void cachesSameText() {
+
+        TranslateService translateService = newTranslateService();
+
+        TranslateResult result = translateService.translate(TranslateProvider.NAVER, "ko", "en", "안녕하세요");
+        translateService.translate(TranslateProvider.NAVER, "ko", "en", "안녕하세요");
+
+        assertEquals(TranslateProvider.NAVER, result.getProvider());
+        assertEquals("Hello", result.getTranslatedText());
+        assertEquals(1, server.count("/naver"));
+        assertEquals(1, savedList.size());
+    }
+
+    @Test
+    void usesPersistentCacheAfterRestart() {
+
+        newTranslateService().translate(TranslateProvider.NAVER, "ko", "en", "안녕하세요");
+
+        //메모리 캐시가 비어있는 새 서비스도 DB 에 저장된 결과를 사용
+        TranslateResult result = newTranslateService().translate(TranslateProvider.NAVER, "ko", "en", "안녕하세요");
+
+        assertEquals("Hello", result.getTranslatedText());
+        assertEquals(1, server.count("/naver"));
+    }
+
+    @Test
+    void failsOverToOtherProvider() {
+
+        server.setStatus("/naver", 500);
+        TranslateService translateService = newTranslateService();
+
+        TranslateResult result = translateService.translate(TranslateProvider.NAVER, "ko", "en", "반갑습니다");
+
+        assertEquals(TranslateProvider.KAKAO, result.getProvider());
+        assertEquals("Hello. Nice to meet you.", result.getTranslatedText());
+        assertEquals(1, server.count("/naver"));
+        assertEquals(1, server.count("/kakao"));
+    }
+
+    @Test
+    void rejectsEmptyText() {
+
+        assertThrows(BizException.class, () -> newTranslateService().translate(TranslateProvider.NAVER, "ko", "en", " "));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.jpa.notice;
+
+import com.example.jpa.notice.repository.NoticeRepository;
+import com.example.jpa.user.entity.User;
+import com.example.jpa.user.entity.UserActivityStats;
+import com.example.jpa.user.repository.UserActivityStatsRepository;
+import com.example.jpa.util.JWTUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 공지사항 등록/좋아요시 작성자의 공지사항수, 좋아요수 집계가 증감하는지 확인
+ */
+@SpringBootTest
+class NoticeActivityStatsTest {
+
+    //data.sql 의 회원(test2@gmail.com), 좋아요가 없는 공지사항
+    private static final long USER_ID = 3L;
+    private static final long NOTICE_ID = 5L;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserActivityStatsRepository userActivityStatsRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    private MockMvc mockMvc;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        token = JWTUtils.createToken(User.builder()
+                .id(USER_ID)
+                .email("test2@gmail.com")
+                .userName("회원")
+                .build()).getToken();
+    }
+
+    private UserActivityStats stats() {
+        return userActivityStatsRepository.findById(USER_ID).orElseGet(UserActivityStats::new);
+    }
+
+    private String like(String action) throws Exception {
+        return mockMvc.perform(put("/api/notice/" + NOTICE_ID + "/" + action).header(JWTUtils.TOKEN_HEADER, token))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void addNoticeIncreasesNoticeCount() throws Exception {
+
+        long before = stats().getNoticeCount();
+
+        mockMvc.perform(post("/api/notice")
+                .header(JWTUtils.TOKEN_HEADER, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"집계 확인\",\"contents\":\"작성자 공지사항수 증가\"}"))
+                .andExpect(status().isOk());
+
+        assertEquals(before + 1, stats().getNoticeCount());
+    }
+
+    @Test
+    void likeAndUnlikeChangeNoticeLikeCount() throws Exception {
+
+        long before = stats().getNoticeLikeCount();
+        int likes = noticeRepository.findById(NOTICE_ID).get().getLikes();
+
+        assertTrue(like("like").contains("\"result\":true"));
+        assertEquals(before + 1, stats().getNoticeLikeCount());
+        assertEquals(likes + 1, noticeRepository.findById(NOTICE_ID).get().getLikes());
+
+        //이미 좋아요한 공지사항은 집계 변동 없음
+        assertTrue(like("like").contains("\"result\":false"));
+        assertEquals(before + 1, stats().getNoticeLikeCount());
+
+        assertTrue(like("unlike").contains("\"result\":true"));
+        assertEquals(before, stats().getNoticeLikeCount());
+        assertEquals(likes, noticeRepository.findById(NOTICE_ID).get().getLikes());
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.jpa.user.service;
+
+import com.example.jpa.user.model.UserPointAccrualInput;
+import com.example.jpa.user.model.UserPointAccrualResult;
+import com.example.jpa.user.model.UserPointType;
+import com.example.jpa.user.repository.UserPointBalanceRepository;
+import com.example.jpa.user.repository.UserPointCustomRepository;
+import com.example.jpa.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 포인트 일괄 적립(잔액/원장), 잔액 행 추가 충돌시 재시도, 잔액/원장 보정 확인
+ */
+@SpringBootTest
+class PointServiceImplTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update(" delete from user_point ");
+        jdbcTemplate.update(" delete from user_point_balance ");
+    }
+
+    private UserPointAccrualResult accrue(List<Long> userIdList, int point) {
+        return pointService.accrue(UserPointAccrualInput.builder()
+                .userIdList(userIdList)
+                .userPointType(UserPointType.NONE)
+                .point(point)
+                .build());
+    }
+
+    private long balance(long userId) {
+        return pointService.getBalance(userId).getBalance();
+    }
+
+    //원장 행의 잔액이 id 순서 누적합과 같은지
+    private void assertLedger(long userId) {
+
+        List<long[]> rows = jdbcTemplate.query(" select point, balance from user_point where user_id = ? order by id "
+                , (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, userId);
+
+        long sum = 0;
+        for (long[] row : rows) {
+            sum += row[0];
+            assertEquals(sum, row[1]);
+        }
+        assertEquals(sum, balance(userId));
+    }
+
+    @Test
+    void accruesBalanceAndLedger() {
+
+        UserPointAccrualResult result = accrue(Arrays.asList(2L, 1L, 2L, 999L), 100);
+        accrue(Collections.singletonList(1L), -30);
+
+        //중복 제외, 없는 회원 제외
+        assertEquals(3, result.getRequestCount());
+        assertEquals(2, result.getAccruedCount());
+        assertEquals(0, result.getFailedCount());
+
+        assertEquals(70, balance(1L));
+        assertEquals(100, balance(2L));
+        assertLedger(1L);
+        assertLedger(2L);
+    }
+
+    @Test
+    void concurrentAccrualCreatesBalanceRowOnce() throws Exception {
+
+        int threads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<UserPointAccrualResult>> futures = new ArrayList<>();
+        for (int i = 0; i < threads * 2; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return accrue(Arrays.asList(1L, 2L, 3L), 10);
+            }));
+        }
+        start.countDown();
+
+        for (Future<UserPointAccrualResult> future : futures) {
+            assertEquals(0, future.get().getFailedCount());
+        }
+        executorService.shutdown();
+
+        for (long userId = 1; userId <= 3; userId++) {
+            assertEquals(threads * 2 * 10, balance(userId));
+            assertLedger(userId);
+        }
+    }
+
+    @Test
+    void retriesChunkOnDuplicateBalanceRow() {
+
+        UserPointCustomRepository userPointCustomRepository = mock(UserPointCustomRepository.class);
+        when(userPointCustomRepository.accrue(anyList(), any(UserPointType.class), anyInt(), any(LocalDateTime.class)))
+                .thenThrow(new DuplicateKeyException("user_point_balance"))
+                .thenReturn(Collections.singletonMap(1L, 10L));
+
+        PointServiceImpl service = new PointServiceImpl(mock(UserRepository.class)
+                , mock(UserPointBalanceRepository.class), userPointCustomRepository);
+
+        UserPointAccrualResult result = service.accrue(UserPointAccrualInput.builder()
+                .userIdList(Collections.singletonList(1L))
+                .userPointType(UserPointType.NONE)
+                .point(10)
+                .build());
+
+        assertEquals(1, result.getAccruedCount());
+        assertEquals(0, result.getFailedCount());
+        verify(userPointCustomRepository, times(2)).accrue(anyList(), any(UserPointType.class), anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void reconcileFixesBalanceAndLedger() {
+
+        accrue(Collections.singletonList(1L), 100);
+        accrue(Collections.singletonList(1L), 50);
+        accrue(Collections.singletonList(2L), 30);
+
+        //잔액, 원장 잔액이 어긋난 경우
+        jdbcTemplate.update(" update user_point_balance set balance = 999 where user_id = 1 ");
+        jdbcTemplate.update(" update user_point set balance = 0 where user_id = 1 ");
+        jdbcTemplate.update(" update user_point set balance = 7 where user_id = 2 ");
+
+        pointService.reconcile();
+
+        assertEquals(150, balance(1L));
+        assertEquals(30, balance(2L));
+        assertLedger(1L);
+        assertLedger(2L);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.jpa.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 키 동시 조회시 loader 한번 호출, 예외 전달, LRU/TTL 확인
+ */
+class ExpiringCacheTest {
+
+    private static final int THREADS = 8;
+
+    private interface Loader {
+        String load(ExpiringCache<String, String> cache);
+    }
+
+    //loader 는 200ms 동안 대기해서 첫 호출이 끝나기 전에 모든 요청이 같은 키를 조회
+    private List<Future<String>> runConcurrently(Loader loader) throws Exception {
+
+        ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+        try {
+            ExpiringCache<String, String> cache = new ExpiringCache<>(10, 1000 * 60);
+            CountDownLatch start = new CountDownLatch(1);
+
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return loader.load(cache);
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> future : futures) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                } catch (Exception ignored) {
+                }
+            }
+            return futures;
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void coalescesConcurrentLoads() throws Exception {
+
+        AtomicInteger loadCount = new AtomicInteger();
+
+        List<Future<String>> futures = runConcurrently(cache -> cache.get("key", () -> {
+            loadCount.incrementAndGet();
+            sleep(200);
+            return "value";
+        }));
+
+        for (Future<String> future : futures) {
+            assertEquals("value", future.get());
+        }
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void propagatesLoaderExceptionWithoutCaching() throws Exception {
+
+        AtomicInteger loadCount = new AtomicInteger();
+
+        List<Future<String>> futures = runConcurrently(cache -> cache.get("key", () -> {
+            loadCount.incrementAndGet();
+            sleep(200);
+            throw new IllegalStateException("fail");
+        }));
+
+        for (Future<String> future : futures) {
+            Exception e = assertThrows(Exception.class, future::get);
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void evictsEldestAndExpired() throws Exception {
+
+        ExpiringCache<String, String> cache = new ExpiringCache<>(2, 100);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+
+        Thread.sleep(150);
+        assertNull(cache.get("a"));
+        assertEquals("4", cache.get("a", () -> "4"));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package com.zerobase.fastlms.admin.controller;
 
 
+import com.zerobase.fastlms.components.LoginMetrics;
+import com.zerobase.fastlms.components.MemberUserCache;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
+@RequiredArgsConstructor
 @Controller
 public class AdminMainController {
     
+    private final LoginMetrics loginMetrics;
+    private final MemberUserCache memberUserCache;
+    
     
     @GetMapping("/admin/main.do")
-    public String main() {
+    public String main(Model model) {
+        
+        model.addAttribute("lookup", loginMetrics.getLookup());
+        model.addAttribute("passwordCheck", loginMetrics.getPasswordCheck());
+        model.addAttribute("cacheHitCount", memberUserCache.getHitCount());
+        model.addAttribute("cacheMissCount", memberUserCache.getMissCount());
         
         return "admin/main";
     }
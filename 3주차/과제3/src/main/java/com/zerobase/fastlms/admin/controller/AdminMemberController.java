@@ -7,6 +7,7 @@ import com.zerobase.fastlms.admin.model.MemberInput;
 import com.zerobase.fastlms.course.controller.BaseController;
 import com.zerobase.fastlms.member.service.MemberService;
 import com.zerobase.fastlms.util.PageUtil;
+import com.zerobase.fastlms.util.PageList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -25,14 +26,10 @@ public class AdminMemberController extends BaseController {
     public String list(Model model, MemberParam parameter) {
         
         parameter.init();
-        List<MemberDto> members = memberService.list(parameter);
+        PageList<MemberDto> members = memberService.list(parameter);
         
-        long totalCount = 0;
-        if (members != null && members.size() > 0) {
-            totalCount = members.get(0).getTotalCount();
-        }
-        String queryString = parameter.getQueryString();
-        String pagerHtml = getPaperHtml(totalCount, parameter.getPageSize(), parameter.getPageIndex(), queryString);
+        long totalCount = members.getTotalCount();
+        String pagerHtml = getPaperHtml(members, parameter);
         
         model.addAttribute("list", members);
         model.addAttribute("totalCount", totalCount);
@@ -1,6 +1,7 @@
 package com.zerobase.fastlms.admin.dto;
 
 import com.zerobase.fastlms.member.entity.Member;
+import com.zerobase.fastlms.util.PageItem;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,7 +14,7 @@ import java.time.format.DateTimeFormatter;
 @NoArgsConstructor
 @Builder
 @Data
-public class MemberDto {
+public class MemberDto implements PageItem {
     
     String userId;
     String userName;
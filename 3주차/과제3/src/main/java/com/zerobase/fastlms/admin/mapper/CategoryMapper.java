@@ -12,5 +12,6 @@ import java.util.List;
 public interface CategoryMapper {
 
     List<CategoryDto> select(CategoryDto parameter);
+    List<CategoryDto> selectCatalogList();
 
 }
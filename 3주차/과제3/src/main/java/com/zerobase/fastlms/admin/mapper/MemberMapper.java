@@ -4,13 +4,14 @@ package com.zerobase.fastlms.admin.mapper;
 import com.zerobase.fastlms.admin.dto.MemberDto;
 import com.zerobase.fastlms.admin.model.MemberParam;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
 @Mapper
 public interface MemberMapper {
 
-    long selectListCount(MemberParam parameter);
-    List<MemberDto> selectList(MemberParam parameter);
+    long selectListCount(@Param("parameter") MemberParam parameter);
+    List<MemberDto> selectList(@Param("parameter") MemberParam parameter, @Param("cachedTotalCount") Long cachedTotalCount);
 
 }
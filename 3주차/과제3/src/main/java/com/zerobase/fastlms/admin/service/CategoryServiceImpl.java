@@ -5,6 +5,7 @@ import com.zerobase.fastlms.admin.entity.Category;
 import com.zerobase.fastlms.admin.mapper.CategoryMapper;
 import com.zerobase.fastlms.admin.model.CategoryInput;
 import com.zerobase.fastlms.admin.repository.CategoryRepository;
+import com.zerobase.fastlms.course.service.CourseCatalog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ public class CategoryServiceImpl implements CategoryService {
     
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CourseCatalog courseCatalog;
     
     private Sort getSortBySortValueDesc() {
         return Sort.by(Sort.Direction.DESC, "sortValue");
@@ -40,6 +42,7 @@ public class CategoryServiceImpl implements CategoryService {
                 .sortValue(0)
                 .build();
         categoryRepository.save(category);
+        courseCatalog.invalidate();
         
         return true;
     }
@@ -54,6 +57,7 @@ public class CategoryServiceImpl implements CategoryService {
             category.setSortValue(parameter.getSortValue());
             category.setUsingYn(parameter.isUsingYn());
             categoryRepository.save(category);
+            courseCatalog.invalidate();
         }
         
         return true;
@@ -63,6 +67,7 @@ public class CategoryServiceImpl implements CategoryService {
     public boolean del(long id) {
         
         categoryRepository.deleteById(id);
+        courseCatalog.invalidate();
         
         return true;
     }
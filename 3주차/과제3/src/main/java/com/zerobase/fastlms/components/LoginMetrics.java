@@ -0,0 +1,88 @@
+package com.zerobase.fastlms.components;
+
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 소요시간(회원 조회, BCrypt 비밀번호 확인을 나누어 집계)
+ * - SecurityConfiguration 에서 UserDetailsService, PasswordEncoder 를 감싸서 측정
+ * - 회원 조회는 MemberUserCache 에 없을때만 호출됨
+ */
+@Component
+public class LoginMetrics {
+    
+    private final Timer lookup = new Timer();
+    private final Timer passwordCheck = new Timer();
+    
+    public UserDetailsService timed(UserDetailsService userDetailsService) {
+        
+        return username -> {
+            long start = System.nanoTime();
+            try {
+                return userDetailsService.loadUserByUsername(username);
+            } finally {
+                lookup.record(System.nanoTime() - start);
+            }
+        };
+    }
+    
+    public PasswordEncoder timed(PasswordEncoder passwordEncoder) {
+        
+        return new PasswordEncoder() {
+            
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return passwordEncoder.encode(rawPassword);
+            }
+            
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                long start = System.nanoTime();
+                try {
+                    return passwordEncoder.matches(rawPassword, encodedPassword);
+                } finally {
+                    passwordCheck.record(System.nanoTime() - start);
+                }
+            }
+            
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return passwordEncoder.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+    
+    public Timer getLookup() {
+        return lookup;
+    }
+    
+    public Timer getPasswordCheck() {
+        return passwordCheck;
+    }
+    
+    public static class Timer {
+        
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+        }
+        
+        public long getCount() {
+            return count.sum();
+        }
+        
+        /**
+         * 평균 소요시간(ms)
+         */
+        public double getAverageMillis() {
+            long n = count.sum();
+            return n < 1 ? 0 : totalNanos.sum() / 1_000_000.0 / n;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.zerobase.fastlms.components;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 회원정보 캐시(DaoAuthenticationProvider 에서 사용)
+ * - 로그인 성공한 회원의 UserDetails 를 TTL 동안 보관, 같은 회원의 로그인은 member 테이블 조회 없이 비밀번호만 확인
+ * - 비밀번호가 다르면 DaoAuthenticationProvider 가 DB 에서 다시 조회해서 확인
+ * - 회원 상태/비밀번호 변경, 탈퇴, 이메일 인증시 evict
+ * - 로그인 후 비밀번호가 지워지므로(eraseCredentials) 복사본을 저장/반환
+ */
+@Component
+public class MemberUserCache implements UserCache {
+    
+    private static final long TTL = 1000 * 30;
+    
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        
+        Entry entry = cache.get(username);
+        if (entry == null || entry.expireAt < System.currentTimeMillis()) {
+            missCount.increment();
+            return null;
+        }
+        
+        hitCount.increment();
+        return User.withUserDetails(entry.user).build();
+    }
+    
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), new Entry(User.withUserDetails(user).build(), System.currentTimeMillis() + TTL));
+    }
+    
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.remove(username);
+    }
+    
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    public long getMissCount() {
+        return missCount.sum();
+    }
+    
+    private static class Entry {
+        
+        private final UserDetails user;
+        private final long expireAt;
+        
+        Entry(UserDetails user, long expireAt) {
+            this.user = user;
+            this.expireAt = expireAt;
+        }
+    }
+}
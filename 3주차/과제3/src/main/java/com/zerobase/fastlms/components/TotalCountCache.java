@@ -0,0 +1,105 @@
+package com.zerobase.fastlms.components;
+
+import com.zerobase.fastlms.util.PageItem;
+import com.zerobase.fastlms.util.PageList;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색조건이 없는 관리자 목록의 전체개수 캐시
+ * - 전체개수를 알고 있으면 목록 쿼리에서 count(*) over() 를 계산하지 않음(limit 만큼만 조회)
+ * - 등록/삭제시 evict, 다른 경로로 변경된 경우를 위해 TTL 이후 다시 계산
+ */
+@Component
+public class TotalCountCache {
+    
+    public static final String COURSE = "course";
+    public static final String TAKE_COURSE = "takeCourse";
+    public static final String MEMBER = "member";
+    
+    private static final long TTL = 1000 * 60;
+    
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    
+    public Long get(String key) {
+        
+        Entry entry = cache.get(key);
+        if (entry == null || entry.expireAt < System.currentTimeMillis()) {
+            return null;
+        }
+        return entry.totalCount;
+    }
+    
+    public void put(String key, long totalCount) {
+        cache.put(key, new Entry(totalCount, System.currentTimeMillis() + TTL));
+    }
+    
+    public void evict(String key) {
+        cache.remove(key);
+    }
+    
+    /**
+     * 한 페이지 목록 + 전체개수
+     * - 조건이 없으면(unfiltered) 캐시된 전체개수를 목록 쿼리에 넘겨서 count(*) over() 를 생략(null 이면 같이 계산)
+     * - 마지막 페이지 이후를 요청한 경우 행이 없어서 전체개수를 따로 조회
+     */
+    public <T extends PageItem> PageList<T> list(String key, boolean unfiltered, long pageStart
+            , Function<Long, List<T>> selectList, LongSupplier selectListCount) {
+        
+        Long cachedTotalCount = unfiltered ? get(key) : null;
+        
+        List<T> list = selectList.apply(cachedTotalCount);
+        
+        long totalCount;
+        if (cachedTotalCount != null) {
+            totalCount = cachedTotalCount;
+        } else if (!list.isEmpty()) {
+            totalCount = list.get(0).getTotalCount();
+        } else {
+            totalCount = pageStart > 0 ? selectListCount.getAsLong() : 0;
+        }
+        
+        if (unfiltered && cachedTotalCount == null) {
+            put(key, totalCount);
+        }
+        
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).setSeq(totalCount - pageStart - i);
+        }
+        
+        return new PageList<>(list, totalCount);
+    }
+    
+    /**
+     * 전체개수만 필요한 경우(키셋 페이징 등)
+     */
+    public long getTotalCount(String key, boolean unfiltered, LongSupplier selectListCount) {
+        
+        Long cachedTotalCount = unfiltered ? get(key) : null;
+        if (cachedTotalCount != null) {
+            return cachedTotalCount;
+        }
+        
+        long totalCount = selectListCount.getAsLong();
+        if (unfiltered) {
+            put(key, totalCount);
+        }
+        return totalCount;
+    }
+    
+    private static class Entry {
+        
+        private final long totalCount;
+        private final long expireAt;
+        
+        Entry(long totalCount, long expireAt) {
+            this.totalCount = totalCount;
+            this.expireAt = expireAt;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.zerobase.fastlms.configuration;
 
+import com.zerobase.fastlms.components.LoginMetrics;
+import com.zerobase.fastlms.components.MemberUserCache;
 import com.zerobase.fastlms.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -20,6 +23,8 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
 
     private final MemberService memberService;
+    private final MemberUserCache memberUserCache;
+    private final LoginMetrics loginMetrics;
 
     @Bean
     PasswordEncoder getPasswordEncoder() {
@@ -75,10 +80,20 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
 
     @Override
     protected void configure(AuthenticationManagerBuilder auth) throws Exception {
+        /*
         auth.userDetailsService(memberService)
                 .passwordEncoder(getPasswordEncoder());
 
         super.configure(auth);
+        */
+        
+        //로그인 회원정보 캐시, 회원 조회/비밀번호 확인 시간 측정
+        //super.configure(auth) 를 호출하면 여기 설정 대신 기본 설정(UserDetailsService 빈)이 사용됨
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(loginMetrics.timed(memberService));
+        provider.setPasswordEncoder(loginMetrics.timed(getPasswordEncoder()));
+        provider.setUserCache(memberUserCache);
+        auth.authenticationProvider(provider);
     }
 
 }
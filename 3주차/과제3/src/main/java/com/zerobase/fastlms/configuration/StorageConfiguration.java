@@ -0,0 +1,40 @@
+package com.zerobase.fastlms.configuration;
+
+import com.zerobase.fastlms.storage.StorageProperties;
+import com.zerobase.fastlms.storage.backend.LocalStorageBackend;
+import com.zerobase.fastlms.storage.backend.S3StorageBackend;
+import com.zerobase.fastlms.storage.backend.StorageBackend;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.file.Paths;
+
+@RequiredArgsConstructor
+@Configuration
+public class StorageConfiguration implements WebMvcConfigurer {
+    
+    private final StorageProperties storageProperties;
+    
+    @Bean
+    StorageBackend getStorageBackend() {
+        
+        if (StorageProperties.TYPE_S3.equals(storageProperties.getType())) {
+            return new S3StorageBackend(storageProperties.getS3());
+        }
+        return new LocalStorageBackend(Paths.get(storageProperties.getRoot()), storageProperties.getUrlPath());
+    }
+    
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        
+        //로컬 저장소 파일은 urlPath 로 제공
+        if (!StorageProperties.TYPE_S3.equals(storageProperties.getType())) {
+            String location = Paths.get(storageProperties.getRoot()).toAbsolutePath().normalize().toUri().toString();
+            registry.addResourceHandler(storageProperties.getUrlPath() + "/**")
+                    .addResourceLocations(location.endsWith("/") ? location : location + "/");
+        }
+    }
+}
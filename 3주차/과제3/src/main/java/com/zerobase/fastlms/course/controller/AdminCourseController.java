@@ -6,24 +6,19 @@ import com.zerobase.fastlms.course.dto.CourseDto;
 import com.zerobase.fastlms.course.model.CourseInput;
 import com.zerobase.fastlms.course.model.CourseParam;
 import com.zerobase.fastlms.course.service.CourseService;
+import com.zerobase.fastlms.storage.exception.FileStorageException;
+import com.zerobase.fastlms.storage.model.StoredFile;
+import com.zerobase.fastlms.storage.service.FileStorageService;
+import com.zerobase.fastlms.util.PageList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
-import org.springframework.util.CollectionUtils;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.servlet.http.HttpServletRequest;
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.time.LocalDate;
-import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -32,23 +27,21 @@ public class AdminCourseController extends BaseController {
     
     private final CourseService courseService;
     private final CategoryService categoryService;
+    private final FileStorageService fileStorageService;
     
     @GetMapping("/admin/course/list.do")
     public String list(Model model, CourseParam parameter) {
         
         parameter.init();
-        List<CourseDto> courseList = courseService.list(parameter);
+        PageList<CourseDto> courseList = courseService.list(parameter);
         
-        long totalCount = 0;
-        if (!CollectionUtils.isEmpty(courseList)) {
-            totalCount = courseList.get(0).getTotalCount();
-        }
-        String queryString = parameter.getQueryString();
-        String pagerHtml = getPaperHtml(totalCount, parameter.getPageSize(), parameter.getPageIndex(), queryString);
+        long totalCount = courseList.getTotalCount();
+        String pagerHtml = getPaperHtml(courseList, parameter);
         
         model.addAttribute("list", courseList);
         model.addAttribute("totalCount", totalCount);
         model.addAttribute("pager", pagerHtml);
+        model.addAttribute("category", categoryService.list());
         
         return "admin/course/list";
     }
@@ -80,46 +73,6 @@ public class AdminCourseController extends BaseController {
         return "admin/course/add";
     }
     
-    
-    
-    
-    private String[] getNewSaveFile(String baseLocalPath, String baseUrlPath, String originalFilename) {
-    
-        LocalDate now = LocalDate.now();
-    
-        String[] dirs = {
-                String.format("%s/%d/", baseLocalPath,now.getYear()),
-                String.format("%s/%d/%02d/", baseLocalPath, now.getYear(),now.getMonthValue()),
-                String.format("%s/%d/%02d/%02d/", baseLocalPath, now.getYear(), now.getMonthValue(), now.getDayOfMonth())};
-        
-        String urlDir = String.format("%s/%d/%02d/%02d/", baseUrlPath, now.getYear(), now.getMonthValue(), now.getDayOfMonth());
-        
-        for(String dir : dirs) {
-            File file = new File(dir);
-            if (!file.isDirectory()) {
-                file.mkdir();
-            }
-        }
-        
-        String fileExtension = "";
-        if (originalFilename != null) {
-            int dotPos = originalFilename.lastIndexOf(".");
-            if (dotPos > -1) {
-                fileExtension = originalFilename.substring(dotPos + 1);
-            }
-        }
-        
-        String uuid = UUID.randomUUID().toString().replaceAll("-", "");
-        String newFilename = String.format("%s%s", dirs[2], uuid);
-        String newUrlFilename = String.format("%s%s", urlDir, uuid);
-        if (fileExtension.length() > 0) {
-            newFilename += "." + fileExtension;
-            newUrlFilename += "." + fileExtension;
-        }
-    
-        return new String[]{newFilename, newUrlFilename};
-    }
-    
     @PostMapping(value = {"/admin/course/add.do", "/admin/course/edit.do"})
     public String addSubmit(Model model, HttpServletRequest request
                             , MultipartFile file
@@ -128,24 +81,16 @@ public class AdminCourseController extends BaseController {
         String saveFilename = "";
         String urlFilename = "";
         
-        if (file != null) {
-            String originalFilename = file.getOriginalFilename();
-            
-            String baseLocalPath = "/Users/kyutaepark/Documents/sources/zerobase/fastlms/files";
-            String baseUrlPath = "/files";
-            
-            String[] arrFilename = getNewSaveFile(baseLocalPath, baseUrlPath, originalFilename);
-    
-            saveFilename = arrFilename[0];
-            urlFilename = arrFilename[1];
-            
-            try {
-                File newFile = new File(saveFilename);
-                FileCopyUtils.copy(file.getInputStream(), new FileOutputStream(newFile));
-            } catch (IOException e) {
-                log.info("############################ - 1");
-                log.info(e.getMessage());
+        //저장 경로/크기 제한/중복 제거는 FileStorageService(storage 설정)
+        try {
+            StoredFile storedFile = fileStorageService.store(file);
+            if (storedFile != null) {
+                saveFilename = storedFile.getFilename();
+                urlFilename = storedFile.getUrlFilename();
             }
+        } catch (FileStorageException e) {
+            model.addAttribute("message", e.getMessage());
+            return "common/error";
         }
         
         parameter.setFilename(saveFilename);
@@ -10,6 +10,8 @@ import com.zerobase.fastlms.course.model.ServiceResult;
 import com.zerobase.fastlms.course.model.TakeCourseParam;
 import com.zerobase.fastlms.course.service.CourseService;
 import com.zerobase.fastlms.course.service.TakeCourseService;
+import com.zerobase.fastlms.util.ListUtils;
+import com.zerobase.fastlms.util.PageList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -33,14 +35,10 @@ public class AdminTakeCourseController extends BaseController {
         , BindingResult bindingResult) {
     
         parameter.init();
-        List<TakeCourseDto> list = takeCourseService.list(parameter);
+        PageList<TakeCourseDto> list = takeCourseService.list(parameter);
         
-        long totalCount = 0;
-        if (!CollectionUtils.isEmpty(list)) {
-            totalCount = list.get(0).getTotalCount();
-        }
-        String queryString = parameter.getQueryString();
-        String pagerHtml = getPaperHtml(totalCount, parameter.getPageSize(), parameter.getPageIndex(), queryString);
+        long totalCount = list.getTotalCount();
+        String pagerHtml = getPaperHtml(list, parameter);
     
         model.addAttribute("list", list);
         model.addAttribute("totalCount", totalCount);
@@ -66,4 +64,16 @@ public class AdminTakeCourseController extends BaseController {
         
         return "redirect:/admin/takecourse/list.do";
     }
+    
+    @PostMapping("/admin/takecourse/status-batch.do")
+    public String statusBatch(Model model, TakeCourseParam parameter) {
+        
+        ServiceResult result = takeCourseService.updateStatus(ListUtils.toIdList(parameter.getIdList()), parameter.getStatus());
+        if (!result.isResult()) {
+            model.addAttribute("message", result.getMessage());
+            return "common/error";
+        }
+        
+        return "redirect:/admin/takecourse/list.do";
+    }
 }
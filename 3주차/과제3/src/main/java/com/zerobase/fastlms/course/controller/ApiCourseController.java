@@ -3,12 +3,18 @@ package com.zerobase.fastlms.course.controller;
 
 import com.zerobase.fastlms.admin.service.CategoryService;
 import com.zerobase.fastlms.common.model.ResponseResult;
+import com.zerobase.fastlms.course.dto.CourseDto;
+import com.zerobase.fastlms.course.dto.CourseSummaryDto;
+import com.zerobase.fastlms.course.model.CourseFrontResult;
+import com.zerobase.fastlms.course.model.CourseParam;
 import com.zerobase.fastlms.course.model.ServiceResult;
 import com.zerobase.fastlms.course.model.TakeCourseInput;
 import com.zerobase.fastlms.course.service.CourseService;
+import com.zerobase.fastlms.util.PageList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -39,5 +45,22 @@ public class ApiCourseController extends BaseController {
         return ResponseEntity.ok().body(responseResult);
     }
     
+    /**
+     * 프론트 강좌 목록(무한 스크롤)
+     */
+    @GetMapping("/api/course/list.api")
+    public ResponseEntity<?> courseList(CourseParam parameter) {
+        
+        PageList<CourseDto> list = courseService.frontList(parameter);
+        
+        ResponseResult responseResult = new ResponseResult(true);
+        responseResult.setBody(CourseFrontResult.builder()
+                .totalCount(list.getTotalCount())
+                .nextCursor(list.getNextCursor())
+                .list(CourseSummaryDto.of(list))
+                .build());
+        return ResponseEntity.ok().body(responseResult);
+    }
+    
     
 }
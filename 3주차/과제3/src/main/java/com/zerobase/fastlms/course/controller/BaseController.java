@@ -1,5 +1,7 @@
 package com.zerobase.fastlms.course.controller;
 
+import com.zerobase.fastlms.admin.model.CommonParam;
+import com.zerobase.fastlms.util.PageList;
 import com.zerobase.fastlms.util.PageUtil;
 
 public class BaseController {
@@ -11,5 +13,10 @@ public class BaseController {
         return pageUtil.pager();
     }
     
+    public String getPaperHtml(PageList<?> list, CommonParam parameter) {
+        PageUtil pageUtil = new PageUtil(list, parameter);
+        return pageUtil.pager();
+    }
+    
     
 }
@@ -6,7 +6,9 @@ import com.zerobase.fastlms.admin.service.CategoryService;
 import com.zerobase.fastlms.course.dto.CourseDto;
 import com.zerobase.fastlms.course.model.CourseInput;
 import com.zerobase.fastlms.course.model.CourseParam;
+import com.zerobase.fastlms.course.service.CourseCatalog;
 import com.zerobase.fastlms.course.service.CourseService;
+import com.zerobase.fastlms.util.PageList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -25,11 +27,13 @@ public class CourseController extends BaseController {
     
     private final CourseService courseService;
     private final CategoryService categoryService;
+    private final CourseCatalog courseCatalog;
     
     @GetMapping("/course")
     public String course(Model model
             , CourseParam parameter) {
         
+        /*
         List<CourseDto> list = courseService.frontList(parameter);
         model.addAttribute("list", list);
         
@@ -43,6 +47,18 @@ public class CourseController extends BaseController {
         
         model.addAttribute("categoryList", categoryList);
         model.addAttribute("courseTotalCount", courseTotalCount);
+        */
+        
+        //카테고리/강좌수/강좌목록을 같은 스냅샷에서
+        CourseCatalog.Snapshot catalog = courseCatalog.get();
+        
+        //첫 페이지만, 다음 목록은 /api/course/list.api 로 스크롤시 조회
+        PageList<CourseDto> list = courseService.frontList(parameter);
+        model.addAttribute("list", list);
+        model.addAttribute("nextCursor", list.getNextCursor());
+        model.addAttribute("categoryId", parameter.getCategoryId());
+        model.addAttribute("categoryList", catalog.getCategoryList());
+        model.addAttribute("courseTotalCount", catalog.getCourseTotalCount());
         
         return "course/index";
     }
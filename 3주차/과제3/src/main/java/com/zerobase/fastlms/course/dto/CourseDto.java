@@ -1,6 +1,7 @@
 package com.zerobase.fastlms.course.dto;
 
 import com.zerobase.fastlms.course.entity.Course;
+import com.zerobase.fastlms.util.PageItem;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,7 +16,7 @@ import java.util.List;
 @NoArgsConstructor
 @Builder
 @Data
-public class CourseDto {
+public class CourseDto implements PageItem {
     
     Long id;
     long categoryId;
@@ -33,6 +34,9 @@ public class CourseDto {
     String filename;
     String urlFilename;
     
+    long seatLimit;
+    long seatRemain;
+    
     //추가컬럼
     long totalCount;
     long seq;
@@ -53,6 +57,8 @@ public class CourseDto {
                 .udtDt(course.getUdtDt())
                 .filename(course.getFilename())
                 .urlFilename(course.getUrlFilename())
+                .seatLimit(course.getSeatLimit())
+                .seatRemain(course.getSeatRemain())
                 .build();
     }
     
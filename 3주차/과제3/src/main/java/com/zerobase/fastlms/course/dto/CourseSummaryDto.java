@@ -0,0 +1,49 @@
+package com.zerobase.fastlms.course.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프론트 강좌 목록(내용 컬럼 제외)
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class CourseSummaryDto {
+    
+    long id;
+    String subject;
+    String summary;
+    long price;
+    long salePrice;
+    String urlFilename;
+    
+    public static CourseSummaryDto of(CourseDto x) {
+        
+        return CourseSummaryDto.builder()
+                .id(x.getId())
+                .subject(x.getSubject())
+                .summary(x.getSummary())
+                .price(x.getPrice())
+                .salePrice(x.getSalePrice())
+                .urlFilename(x.getUrlFilename())
+                .build();
+    }
+    
+    public static List<CourseSummaryDto> of(List<CourseDto> courseList) {
+        
+        List<CourseSummaryDto> list = new ArrayList<>();
+        if (courseList != null) {
+            for (CourseDto x : courseList) {
+                list.add(of(x));
+            }
+        }
+        return list;
+    }
+}
@@ -2,6 +2,7 @@ package com.zerobase.fastlms.course.dto;
 
 import com.sun.xml.internal.ws.spi.db.DatabindingException;
 import com.zerobase.fastlms.course.entity.TakeCourse;
+import com.zerobase.fastlms.util.PageItem;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,7 +17,7 @@ import java.time.format.DateTimeFormatterBuilder;
 @NoArgsConstructor
 @Builder
 @Data
-public class TakeCourseDto {
+public class TakeCourseDto implements PageItem {
     
     long id;
     long courseId;
@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
 @Builder
 @Data
 @Entity
+@Table(indexes = {
+        @Index(name = "ix_course_category_id_reg_dt", columnList = "categoryId, regDt")
+})
 public class Course {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -41,4 +44,10 @@ public class Course {
     String filename;
     String urlFilename;
     
+    //정원(0이면 제한 없음), 남은 자리는 수강신청/취소시 조건부 update 로만 변경
+    @Column(updatable = false)
+    long seatLimit;
+    @Column(updatable = false)
+    long seatRemain;
+    
 }
@@ -14,6 +14,12 @@ import java.time.LocalDateTime;
 @Builder
 @Data
 @Entity
+@Table(indexes = {
+        @Index(name = "ix_take_course_reg_dt_id", columnList = "regDt, id"),
+        @Index(name = "ix_take_course_course_id_reg_dt_id", columnList = "courseId, regDt, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "ux_take_course_active", columnNames = {"courseId", "userId", "activeYn"})
+})
 public class TakeCourse implements TakeCourseCode {
     
     @Id
@@ -27,4 +33,7 @@ public class TakeCourse implements TakeCourseCode {
     String status;//상태(수강신청, 결재완료, 수강취소)
     
     LocalDateTime regDt;//신청일
+    
+    //수강신청/결재완료면 true, 취소면 null(null 은 유니크 제약에서 제외되므로 취소 후 다시 신청 가능)
+    Boolean activeYn;
 }
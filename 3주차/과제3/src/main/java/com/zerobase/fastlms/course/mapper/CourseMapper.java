@@ -3,13 +3,18 @@ package com.zerobase.fastlms.course.mapper;
 import com.zerobase.fastlms.course.dto.CourseDto;
 import com.zerobase.fastlms.course.model.CourseParam;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
 @Mapper
 public interface CourseMapper {
     
-    long selectListCount(CourseParam parameter);
-    List<CourseDto> selectList(CourseParam parameter);
+    long selectListCount(@Param("parameter") CourseParam parameter);
+    List<CourseDto> selectList(@Param("parameter") CourseParam parameter, @Param("cachedTotalCount") Long cachedTotalCount);
+    
+    List<CourseDto> selectListByIdList(List<Long> idList);
+    List<CourseDto> selectSearchList();
+    List<CourseDto> selectCatalogList();
     
 }
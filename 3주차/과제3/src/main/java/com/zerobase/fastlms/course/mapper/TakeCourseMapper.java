@@ -3,14 +3,16 @@ package com.zerobase.fastlms.course.mapper;
 import com.zerobase.fastlms.course.dto.TakeCourseDto;
 import com.zerobase.fastlms.course.model.TakeCourseParam;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
 @Mapper
 public interface TakeCourseMapper {
     
-    long selectListCount(TakeCourseParam parameter);
-    List<TakeCourseDto> selectList(TakeCourseParam parameter);
+    long selectListCount(@Param("parameter") TakeCourseParam parameter);
+    List<TakeCourseDto> selectList(@Param("parameter") TakeCourseParam parameter, @Param("cachedTotalCount") Long cachedTotalCount);
+    List<TakeCourseDto> selectListByCursor(@Param("parameter") TakeCourseParam parameter);
     
     List<TakeCourseDto> selectListMyCourse(TakeCourseParam parameter);
 }
@@ -0,0 +1,25 @@
+package com.zerobase.fastlms.course.model;
+
+import com.zerobase.fastlms.course.dto.CourseSummaryDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 프론트 강좌 목록 API 결과
+ * - nextCursor 가 있으면 afterId=nextCursor 로 다음 목록 요청
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class CourseFrontResult {
+    
+    long totalCount;
+    Long nextCursor;
+    List<CourseSummaryDto> list;
+    
+}
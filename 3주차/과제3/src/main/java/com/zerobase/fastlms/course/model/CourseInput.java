@@ -14,6 +14,7 @@ public class CourseInput {
     long price;
     long salePrice;
     String saleEndDtText;
+    long seatLimit;//정원(0이면 제한 없음)
     
     //삭제를 위한
     String idList;
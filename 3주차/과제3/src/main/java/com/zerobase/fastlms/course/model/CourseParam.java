@@ -8,5 +8,20 @@ public class CourseParam extends CommonParam {
 
     long id;//course.id
     long categoryId;
+    
+    //프론트 무한 스크롤: 이 강좌ID 다음 강좌부터
+    long afterId;
+    
+    
+    @Override
+    public String getQueryString() {
+        
+        String queryString = super.getQueryString();
+        if (categoryId < 1) {
+            return queryString;
+        }
+        
+        return queryString + (queryString.length() > 0 ? "&" : "") + String.format("categoryId=%d", categoryId);
+    }
 
 }
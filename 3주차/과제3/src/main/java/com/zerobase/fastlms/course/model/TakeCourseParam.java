@@ -3,14 +3,43 @@ package com.zerobase.fastlms.course.model;
 import com.zerobase.fastlms.admin.model.CommonParam;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 public class TakeCourseParam extends CommonParam {
 
     long id;
     String status;
     
+    //일괄 상태변경 대상 id 목록(1,2,3)
+    String idList;
+    
     String userId;
     
     
     long searchCourseId;
+    
+    //키셋 페이징: 이 id 의 수강정보 다음(afterId, 더 오래된) 또는 이전(beforeId, 더 최근) 페이지
+    long afterId;
+    long beforeId;
+    
+    //커서 행의 (reg_dt, id), 서비스에서 설정
+    LocalDateTime cursorRegDt;
+    long cursorId;
+    
+    
+    public boolean isCursorPaging() {
+        return afterId > 0 || beforeId > 0;
+    }
+    
+    @Override
+    public String getQueryString() {
+        
+        String queryString = super.getQueryString();
+        if (searchCourseId < 1) {
+            return queryString;
+        }
+        
+        return queryString + (queryString.length() > 0 ? "&" : "") + String.format("searchCourseId=%d", searchCourseId);
+    }
 }
@@ -2,6 +2,10 @@ package com.zerobase.fastlms.course.repository;
 
 import com.zerobase.fastlms.course.entity.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +14,41 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
 
     Optional<List<Course>> findByCategoryId(long categoryId);
     
+    /**
+     * 남은 자리가 있을때만 1 감소(0 이면 마감)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update course set seat_remain = seat_remain - 1"
+            + " where id = :id and seat_limit > 0 and seat_remain > 0", nativeQuery = true)
+    int decreaseSeatRemain(@Param("id") long id);
+    
+    /**
+     * 수강취소시 자리 반환(정원이 있는 강좌만)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update course set seat_remain = seat_remain + 1"
+            + " where id = :id and seat_limit > 0 and seat_remain < seat_limit", nativeQuery = true)
+    int increaseSeatRemain(@Param("id") long id);
+    
+    /**
+     * 일괄 수강취소시 자리 반환(정원을 넘지 않게)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update course set seat_remain = least(seat_limit, seat_remain + :count)"
+            + " where id = :id and seat_limit > 0", nativeQuery = true)
+    int increaseSeatRemain(@Param("id") long id, @Param("count") long count);
+    
+    /**
+     * 정원 변경, 남은 자리는 현재 수강중인 인원으로 다시 계산
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update course set seat_limit = :seatLimit"
+            + ", seat_remain = greatest(0, :seatLimit - (select count(*) from take_course where course_id = :id and active_yn = 1))"
+            + " where id = :id", nativeQuery = true)
+    int updateSeatLimit(@Param("id") long id, @Param("seatLimit") long seatLimit);
+    
 }
@@ -2,11 +2,77 @@ package com.zerobase.fastlms.course.repository;
 
 import com.zerobase.fastlms.course.entity.TakeCourse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
 import java.util.Collection;
+import java.util.List;
 
 public interface TakeCourseRepository extends JpaRepository<TakeCourse, Long> {
 
     long countByCourseIdAndUserIdAndStatusIn(long courseId, String userId, Collection<String> statusList);
     
+    /**
+     * active_yn 컬럼 추가 전의 수강신청/결재완료 정보에 active_yn 설정(강좌/회원별 가장 먼저 신청한 것만, 이미 설정된 강좌/회원 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update take_course set active_yn = 1"
+            + " where active_yn is null and status in ('REQ', 'COMPLETE')"
+            + " and id in (select id from (select min(id) as id from take_course"
+            + " where status in ('REQ', 'COMPLETE') group by course_id, user_id having max(active_yn) is null) t)", nativeQuery = true)
+    int updateActiveYnForLegacy();
+    
+    /**
+     * 수강중(active_yn = 1)인 수강정보 조회, 상태 변경이 끝날때까지 잠금(select ... for update)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<TakeCourse> findByIdInAndActiveYn(Collection<Long> idList, Boolean activeYn);
+    
+    /**
+     * 수강중인 수강정보의 상태만 일괄 변경(신청 <-> 결재완료, 자리 변동 없음)
+     */
+    @Modifying
+    @Query("update TakeCourse t set t.status = :status where t.id in :idList and t.activeYn = true and t.status <> :status")
+    int updateStatusForActive(@Param("idList") Collection<Long> idList, @Param("status") String status);
+    
+    /**
+     * 상태 일괄 변경 후 수강중 해제(취소)
+     */
+    @Modifying
+    @Query("update TakeCourse t set t.status = :status, t.activeYn = null where t.id in :idList")
+    int updateStatusAndDeactivate(@Param("idList") Collection<Long> idList, @Param("status") String status);
+    
+    /**
+     * 수강중인 경우만 상태 변경(자리 변동 없음), 변경된 건수 반환
+     */
+    @Modifying
+    @Query("update TakeCourse t set t.status = :status where t.id = :id and t.activeYn = true")
+    int updateStatusIfActive(@Param("id") long id, @Param("status") String status);
+    
+    /**
+     * 수강중이 아닌 경우만 상태 변경(자리 변동 없음), 변경된 건수 반환
+     */
+    @Modifying
+    @Query("update TakeCourse t set t.status = :status where t.id = :id and t.activeYn is null")
+    int updateStatusIfInactive(@Param("id") long id, @Param("status") String status);
+    
+    /**
+     * 수강중이 아닌 경우만 상태 변경 후 수강중 설정(다시 신청), 1 건일때만 자리를 차지
+     */
+    @Modifying
+    @Query("update TakeCourse t set t.status = :status, t.activeYn = true where t.id = :id and t.activeYn is null")
+    int updateStatusAndActivate(@Param("id") long id, @Param("status") String status);
+    
+    /**
+     * 수강중인 경우만 상태 변경 후 수강중 해제(취소), 1 건일때만 자리 반환
+     */
+    @Modifying
+    @Query("update TakeCourse t set t.status = :status, t.activeYn = null where t.id = :id and t.activeYn = true")
+    int updateStatusAndDeactivate(@Param("id") long id, @Param("status") String status);
+    
 }
@@ -0,0 +1,156 @@
+package com.zerobase.fastlms.course.service;
+
+import com.zerobase.fastlms.admin.dto.CategoryDto;
+import com.zerobase.fastlms.admin.mapper.CategoryMapper;
+import com.zerobase.fastlms.course.dto.CourseDto;
+import com.zerobase.fastlms.course.mapper.CourseMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프론트 강좌 카탈로그(메모리)
+ * - 사용중인 카테고리, 카테고리별 강좌수, 강좌 목록(목록에 보이는 컬럼만)을 한번에 조회해서 스냅샷으로 보관
+ * - 관리자에서 강좌/카테고리를 변경하면 invalidate, 다음 조회시 다시 생성
+ * - 스냅샷은 변경하지 않고 통째로 교체하므로 조회시 잠금 없음
+ * - 강좌 목록은 강좌ID 순서(무한 스크롤 커서)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CourseCatalog {
+
+    private final CategoryMapper categoryMapper;
+    private final CourseMapper courseMapper;
+
+    private volatile Snapshot snapshot;
+    private volatile boolean dirty = true;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        get();
+    }
+
+    public Snapshot get() {
+
+        if (dirty) {
+            rebuild();
+        }
+        return snapshot;
+    }
+
+    public void invalidate() {
+        dirty = true;
+    }
+
+    private synchronized void rebuild() {
+
+        if (!dirty) {
+            return;
+        }
+
+        //조회중에 변경되면 다시 생성하도록 먼저 해제
+        dirty = false;
+
+        List<CategoryDto> categoryList;
+        List<CourseDto> courseList;
+        try {
+            categoryList = categoryMapper.selectCatalogList();
+            courseList = courseMapper.selectCatalogList();
+        } catch (RuntimeException e) {
+            dirty = true;
+            throw e;
+        }
+
+        Map<Long, List<CourseDto>> courseMap = new HashMap<>();
+        for (CourseDto x : courseList) {
+            courseMap.computeIfAbsent(x.getCategoryId(), k -> new ArrayList<>()).add(x);
+        }
+
+        int courseTotalCount = 0;
+        for (CategoryDto x : categoryList) {
+            List<CourseDto> list = courseMap.get(x.getId());
+            x.setCourseCount(list == null ? 0 : list.size());
+            courseTotalCount += x.getCourseCount();
+        }
+
+        Map<Long, List<CourseDto>> courseListMap = new HashMap<>();
+        courseMap.forEach((k, v) -> courseListMap.put(k, Collections.unmodifiableList(v)));
+
+        snapshot = new Snapshot(Collections.unmodifiableList(categoryList)
+                , courseTotalCount
+                , Collections.unmodifiableList(courseList)
+                , Collections.unmodifiableMap(courseListMap));
+
+        log.info("강좌 카탈로그 생성: 카테고리 " + categoryList.size() + ", 강좌 " + courseList.size());
+    }
+
+    public static class Snapshot {
+
+        private final List<CategoryDto> categoryList;
+        private final int courseTotalCount;
+        private final List<CourseDto> courseList;
+        private final Map<Long, List<CourseDto>> courseListMap;
+
+        Snapshot(List<CategoryDto> categoryList, int courseTotalCount
+                , List<CourseDto> courseList, Map<Long, List<CourseDto>> courseListMap) {
+            this.categoryList = categoryList;
+            this.courseTotalCount = courseTotalCount;
+            this.courseList = courseList;
+            this.courseListMap = courseListMap;
+        }
+
+        public List<CategoryDto> getCategoryList() {
+            return categoryList;
+        }
+
+        /**
+         * 사용중인 카테고리의 강좌수 합계
+         */
+        public int getCourseTotalCount() {
+            return courseTotalCount;
+        }
+
+        /**
+         * categoryId 가 0 이하면 전체 강좌
+         */
+        public List<CourseDto> getCourseList(long categoryId) {
+
+            if (categoryId < 1) {
+                return courseList;
+            }
+            return courseListMap.getOrDefault(categoryId, Collections.emptyList());
+        }
+
+        /**
+         * 강좌ID 순서 목록에서 afterId 다음 강좌부터 size 개
+         */
+        public List<CourseDto> getCourseList(long categoryId, long afterId, int size) {
+
+            List<CourseDto> list = getCourseList(categoryId);
+
+            //afterId 보다 큰 첫 강좌 위치
+            int low = 0;
+            int high = list.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (list.get(mid).getId() <= afterId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return list.subList(low, Math.min(low + size, list.size()));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.zerobase.fastlms.course.service;
+
+import com.zerobase.fastlms.course.dto.CourseDto;
+import com.zerobase.fastlms.course.entity.Course;
+import com.zerobase.fastlms.course.mapper.CourseMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 강좌명/키워드 검색 인덱스(메모리)
+ * - 강좌명/키워드를 2글자 단위(bigram)로 나누어 강좌ID 목록을 저장
+ * - 검색어의 bigram 목록이 모두 포함된 강좌만 원문과 다시 비교(like '%검색어%' 와 같은 결과)
+ * - 1글자 검색어는 전체 강좌를 비교
+ * - 강좌 등록/수정/삭제시 갱신, 서버 시작시 DB 에서 전체 생성
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CourseSearchIndex {
+
+    public static final String SEARCH_TYPE_SUBJECT = "subject";
+    public static final String SEARCH_TYPE_KEYWORD = "keyword";
+
+    private static final char FIELD_SUBJECT = 's';
+    private static final char FIELD_KEYWORD = 'k';
+
+    private final CourseMapper courseMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+
+        List<CourseDto> courseList = courseMapper.selectSearchList();
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            for (CourseDto x : courseList) {
+                add(new Doc(x.getId(), x.getCategoryId(), x.getSubject(), x.getKeyword(), x.getRegDt()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("강좌 검색 인덱스 생성: " + courseList.size());
+    }
+
+    public void put(Course course) {
+
+        Doc doc = new Doc(course.getId(), course.getCategoryId(), course.getSubject(), course.getKeyword(), course.getRegDt());
+
+        lock.writeLock().lock();
+        try {
+            remove(doc.id);
+            add(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(long id) {
+
+        lock.writeLock().lock();
+        try {
+            remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어가 포함된 강좌ID 목록(등록일 역순)
+     * - searchType 이 subject/keyword 가 아니면 둘 중 하나라도 포함된 강좌
+     * - categoryId 가 0 보다 크면 해당 카테고리 강좌만
+     */
+    public List<Long> search(String searchType, String searchValue, long categoryId) {
+
+        String value = normalize(searchValue);
+
+        boolean subject = !SEARCH_TYPE_KEYWORD.equals(searchType);
+        boolean keyword = !SEARCH_TYPE_SUBJECT.equals(searchType);
+
+        List<Doc> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Set<Long> idSet = new HashSet<>();
+            if (subject) {
+                idSet.addAll(candidates(FIELD_SUBJECT, value));
+            }
+            if (keyword) {
+                idSet.addAll(candidates(FIELD_KEYWORD, value));
+            }
+
+            for (Long id : idSet) {
+                Doc doc = documents.get(id);
+                if (categoryId > 0 && doc.categoryId != categoryId) {
+                    continue;
+                }
+
+                if ((subject && doc.subject.contains(value))
+                        || (keyword && doc.keyword.contains(value))) {
+                    result.add(doc);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.comparing((Doc e) -> e.regDt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(e -> e.id, Comparator.reverseOrder()));
+
+        List<Long> idList = new ArrayList<>(result.size());
+        result.forEach(e -> idList.add(e.id));
+        return idList;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> candidates(char field, String value) {
+
+        if (value.length() < 2) {
+            return documents.keySet();
+        }
+
+        //가장 짧은 목록부터 교집합
+        List<Set<Long>> list = new ArrayList<>();
+        for (String gram : grams(value)) {
+            Set<Long> ids = postings.get(field + gram);
+            if (ids == null) {
+                return new HashSet<>();
+            }
+            list.add(ids);
+        }
+        list.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(list.get(0));
+        for (int i = 1; i < list.size() && !result.isEmpty(); i++) {
+            result.retainAll(list.get(i));
+        }
+        return result;
+    }
+
+    private void add(Doc doc) {
+
+        documents.put(doc.id, doc);
+        for (String gram : grams(doc.subject)) {
+            postings.computeIfAbsent(FIELD_SUBJECT + gram, k -> new HashSet<>()).add(doc.id);
+        }
+        for (String gram : grams(doc.keyword)) {
+            postings.computeIfAbsent(FIELD_KEYWORD + gram, k -> new HashSet<>()).add(doc.id);
+        }
+    }
+
+    private void remove(long id) {
+
+        Doc doc = documents.remove(id);
+        if (doc == null) {
+            return;
+        }
+
+        for (String gram : grams(doc.subject)) {
+            removePosting(FIELD_SUBJECT + gram, id);
+        }
+        for (String gram : grams(doc.keyword)) {
+            removePosting(FIELD_KEYWORD + gram, id);
+        }
+    }
+
+    private void removePosting(String key, long id) {
+
+        Set<Long> ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> grams(String value) {
+
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= value.length(); i++) {
+            grams.add(value.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+
+    private static class Doc {
+
+        private final long id;
+        private final long categoryId;
+        private final String subject;
+        private final String keyword;
+        private final LocalDateTime regDt;
+
+        Doc(long id, long categoryId, String subject, String keyword, LocalDateTime regDt) {
+            this.id = id;
+            this.categoryId = categoryId;
+            this.subject = normalize(subject);
+            this.keyword = normalize(keyword);
+            this.regDt = regDt;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.zerobase.fastlms.course.model.CourseInput;
 import com.zerobase.fastlms.course.model.CourseParam;
 import com.zerobase.fastlms.course.model.ServiceResult;
 import com.zerobase.fastlms.course.model.TakeCourseInput;
+import com.zerobase.fastlms.util.PageList;
 
 import java.util.List;
 
@@ -24,7 +25,7 @@ public interface CourseService {
     /**
      * 강좌 목록
      */
-    List<CourseDto> list(CourseParam parameter);
+    PageList<CourseDto> list(CourseParam parameter);
     
     /**
      * 강좌 상세정보
@@ -37,9 +38,9 @@ public interface CourseService {
     boolean del(String idList);
     
     /**
-     * 프론트 강좌 목록
+     * 프론트 강좌 목록(afterId 다음 강좌부터 한 페이지)
      */
-    List<CourseDto> frontList(CourseParam parameter);
+    PageList<CourseDto> frontList(CourseParam parameter);
     
     /**
      * 프론트 강좌 상세 정보
@@ -1,5 +1,6 @@
 package com.zerobase.fastlms.course.service;
 
+import com.zerobase.fastlms.components.TotalCountCache;
 import com.zerobase.fastlms.course.dto.CourseDto;
 import com.zerobase.fastlms.course.entity.Course;
 import com.zerobase.fastlms.course.entity.TakeCourse;
@@ -10,24 +11,37 @@ import com.zerobase.fastlms.course.model.ServiceResult;
 import com.zerobase.fastlms.course.model.TakeCourseInput;
 import com.zerobase.fastlms.course.repository.CourseRepository;
 import com.zerobase.fastlms.course.repository.TakeCourseRepository;
+import com.zerobase.fastlms.util.ListUtils;
+import com.zerobase.fastlms.util.PageList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
 public class CourseServiceImpl implements CourseService {
     
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    
     private final CourseRepository courseRepository;
     private final TakeCourseRepository takeCourseRepository;
     private final CourseMapper courseMapper;
+    private final CourseSearchIndex courseSearchIndex;
+    private final CourseCatalog courseCatalog;
+    private final EnrollmentEngine enrollmentEngine;
+    private final EnrollmentGate enrollmentGate;
+    private final TotalCountCache totalCountCache;
     
     
     private LocalDate getLocalDate(String value) {
@@ -58,8 +72,13 @@ public class CourseServiceImpl implements CourseService {
                 .regDt(LocalDateTime.now())
                 .filename(parameter.getFilename())
                 .urlFilename(parameter.getUrlFilename())
+                .seatLimit(Math.max(0, parameter.getSeatLimit()))
+                .seatRemain(Math.max(0, parameter.getSeatLimit()))
                 .build();
         courseRepository.save(course);
+        courseSearchIndex.put(course);
+        courseCatalog.invalidate();
+        totalCountCache.evict(TotalCountCache.COURSE);
         
         return true;
     }
@@ -90,12 +109,26 @@ public class CourseServiceImpl implements CourseService {
         
         courseRepository.save(course);
         
+        //남은 자리는 신청/취소와 겹치지 않도록 DB 에서 다시 계산
+        long seatLimit = Math.max(0, parameter.getSeatLimit());
+        if (seatLimit != course.getSeatLimit()) {
+            courseRepository.updateSeatLimit(course.getId(), seatLimit);
+            enrollmentGate.clearSoldOut(course.getId());
+        }
+        courseSearchIndex.put(course);
+        courseCatalog.invalidate();
+        
         return true;
     }
     
     @Override
-    public List<CourseDto> list(CourseParam parameter) {
+    public PageList<CourseDto> list(CourseParam parameter) {
+        
+        if (StringUtils.hasText(parameter.getSearchValue())) {
+            return search(parameter);
+        }
         
+        /*
         long totalCount = courseMapper.selectListCount(parameter);
         
         List<CourseDto> list = courseMapper.selectList(parameter);
@@ -109,6 +142,49 @@ public class CourseServiceImpl implements CourseService {
         }
         
         return list;
+        */
+        
+        //카테고리 조건이 없으면 캐시된 전체개수 사용, 목록과 전체개수(count(*) over())를 한번에 조회
+        return totalCountCache.list(TotalCountCache.COURSE, parameter.getCategoryId() < 1, parameter.getPageStart()
+                , cachedTotalCount -> courseMapper.selectList(parameter, cachedTotalCount)
+                , () -> courseMapper.selectListCount(parameter));
+    }
+    
+    /**
+     * 검색 인덱스에서 강좌ID 목록을 찾고 현재 페이지의 강좌만 조회
+     */
+    private PageList<CourseDto> search(CourseParam parameter) {
+        
+        List<Long> idList = courseSearchIndex.search(parameter.getSearchType(), parameter.getSearchValue(), parameter.getCategoryId());
+        
+        long totalCount = idList.size();
+        int pageStart = (int) Math.min(parameter.getPageStart(), totalCount);
+        int pageEnd = (int) Math.min(pageStart + parameter.getPageEnd(), totalCount);
+        
+        List<Long> pageIdList = idList.subList(pageStart, pageEnd);
+        if (pageIdList.isEmpty()) {
+            return new PageList<>(new ArrayList<>(), totalCount);
+        }
+        
+        Map<Long, CourseDto> courseMap = new HashMap<>();
+        for (CourseDto x : courseMapper.selectListByIdList(pageIdList)) {
+            courseMap.put(x.getId(), x);
+        }
+        
+        //검색 인덱스의 순서(등록일 역순)대로
+        List<CourseDto> list = new ArrayList<>();
+        int i = 0;
+        for (Long id : pageIdList) {
+            CourseDto x = courseMap.get(id);
+            if (x != null) {
+                x.setTotalCount(totalCount);
+                x.setSeq(totalCount - pageStart - i);
+                list.add(x);
+            }
+            i++;
+        }
+        
+        return new PageList<>(list, totalCount);
     }
     
     @Override
@@ -119,24 +195,24 @@ public class CourseServiceImpl implements CourseService {
     @Override
     public boolean del(String idList) {
         
-        if (idList != null && idList.length() > 0) {
-            String[] ids = idList.split(",");
-            for (String x : ids) {
-                long id = 0L;
-                try {
-                    id = Long.parseLong(x);
-                } catch (Exception e) {
-                }
-                
-                if (id > 0) {
-                    courseRepository.deleteById(id);
-                }
-            }
+        List<Long> ids = ListUtils.toIdList(idList);
+        if (ids.isEmpty()) {
+            return true;
+        }
+        
+        //건별 조회/삭제 대신 1000건씩 delete ... where id in (...)
+        for (List<Long> chunk : ListUtils.partition(ids, DELETE_CHUNK_SIZE)) {
+            courseRepository.deleteAllByIdInBatch(chunk);
         }
         
+        ids.forEach(courseSearchIndex::delete);
+        courseCatalog.invalidate();
+        totalCountCache.evict(TotalCountCache.COURSE);
+        
         return true;
     }
     
+    /*
     @Override
     public List<CourseDto> frontList(CourseParam parameter) {
         
@@ -151,6 +227,28 @@ public class CourseServiceImpl implements CourseService {
         }
         return null;
     }
+    */
+    
+    @Override
+    public PageList<CourseDto> frontList(CourseParam parameter) {
+        
+        //카탈로그 스냅샷(내용 컬럼 없음)에서 afterId 다음 강좌부터 한 페이지
+        CourseCatalog.Snapshot catalog = courseCatalog.get();
+        
+        int pageSize = (int) parameter.getPageEnd();
+        List<CourseDto> list = catalog.getCourseList(parameter.getCategoryId(), parameter.getAfterId(), pageSize + 1);
+        
+        boolean hasMore = list.size() > pageSize;
+        if (hasMore) {
+            list = list.subList(0, pageSize);
+        }
+        
+        PageList<CourseDto> result = new PageList<>(list, catalog.getCourseList(parameter.getCategoryId()).size());
+        if (hasMore) {
+            result.setNextCursor(list.get(list.size() - 1).getId());
+        }
+        return result;
+    }
     
     @Override
     public CourseDto frontDetail(long id) {
@@ -168,6 +266,7 @@ public class CourseServiceImpl implements CourseService {
     @Override
     public ServiceResult req(TakeCourseInput parameter) {
         
+        /*
         ServiceResult result = new ServiceResult();
         
         Optional<Course> optionalCourse = courseRepository.findById(parameter.getCourseId());
@@ -197,10 +296,19 @@ public class CourseServiceImpl implements CourseService {
                 .status(TakeCourse.STATUS_REQ)
                 .build();
         takeCourseRepository.save(takeCourse);
+        totalCountCache.evict(TotalCountCache.TAKE_COURSE);
         
         result.setResult(true);
         result.setMessage("");
         return result;
+        */
+        
+        //강좌 조회부터 입장 제한(EnrollmentGate) 안에서, 중복/정원 확인은 신청정보 저장시 DB 에서
+        ServiceResult result = enrollmentEngine.enroll(parameter.getCourseId(), parameter.getUserId());
+        if (result.isResult()) {
+            totalCountCache.evict(TotalCountCache.TAKE_COURSE);
+        }
+        return result;
     }
     
     @Override
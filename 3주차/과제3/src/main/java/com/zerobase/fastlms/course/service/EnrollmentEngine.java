@@ -0,0 +1,227 @@
+package com.zerobase.fastlms.course.service;
+
+import com.zerobase.fastlms.course.entity.Course;
+import com.zerobase.fastlms.course.entity.TakeCourse;
+import com.zerobase.fastlms.course.entity.TakeCourseCode;
+import com.zerobase.fastlms.course.model.ServiceResult;
+import com.zerobase.fastlms.course.repository.CourseRepository;
+import com.zerobase.fastlms.course.repository.TakeCourseRepository;
+import com.zerobase.fastlms.util.ListUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 수강신청/상태변경
+ * - 중복 신청은 take_course 유니크 제약(course_id, user_id, active_yn)으로 막음(신청 전 조회 없음)
+ * - 정원이 있는 강좌는 남은 자리를 조건부 update 로 감소, 0 건이면 마감
+ * - 자리 감소와 신청정보 저장은 한 트랜잭션, 실패하면 같이 롤백
+ * - 자리를 차지하는 요청(신청, 취소 -> 신청/결재완료)은 EnrollmentGate 를 통과한 경우만 처리
+ * - 일괄 상태변경은 CHUNK_SIZE 개씩 in 절 update 로 처리
+ */
+@Slf4j
+@Component
+public class EnrollmentEngine {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final CourseRepository courseRepository;
+    private final TakeCourseRepository takeCourseRepository;
+    private final EnrollmentGate enrollmentGate;
+    private final TransactionTemplate transactionTemplate;
+
+    public EnrollmentEngine(CourseRepository courseRepository, TakeCourseRepository takeCourseRepository
+            , EnrollmentGate enrollmentGate, PlatformTransactionManager transactionManager) {
+        this.courseRepository = courseRepository;
+        this.takeCourseRepository = takeCourseRepository;
+        this.enrollmentGate = enrollmentGate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+
+        try {
+            int count = takeCourseRepository.updateActiveYnForLegacy();
+            if (count > 0) {
+                log.info("수강신청 active_yn 설정: " + count);
+            }
+        } catch (DataAccessException e) {
+            log.warn("수강신청 active_yn 설정 실패: " + e.getMessage());
+        }
+    }
+
+    public ServiceResult enroll(long courseId, String userId) {
+
+        return enrollmentGate.enter(courseId, () -> {
+
+            Optional<Course> optionalCourse = courseRepository.findById(courseId);
+            if (!optionalCourse.isPresent()) {
+                return new ServiceResult(false, "강좌 정보가 존재하지 않습니다.");
+            }
+
+            Course course = optionalCourse.get();
+            return execute(courseId, () -> insert(course, userId));
+        });
+    }
+
+    private void insert(Course course, String userId) {
+
+        takeSeat(course.getId(), course.getSeatLimit());
+
+        TakeCourse takeCourse = TakeCourse.builder()
+                .courseId(course.getId())
+                .userId(userId)
+                .payPrice(course.getSalePrice())
+                .regDt(LocalDateTime.now())
+                .status(TakeCourse.STATUS_REQ)
+                .activeYn(true)
+                .build();
+        takeCourseRepository.saveAndFlush(takeCourse);
+    }
+
+    /**
+     * 수강정보 상태 변경
+     * - 수강중 여부는 미리 조회한 값이 아니라 트랜잭션 안의 조건부 update(active_yn) 결과로 판단
+     * - 동시에 같은 수강을 취소/다시 신청해도 1 건만 변경되어 자리는 한번만 반환/차지
+     */
+    public ServiceResult changeStatus(long id, String status) {
+
+        Optional<TakeCourse> optionalTakeCourse = takeCourseRepository.findById(id);
+        if (!optionalTakeCourse.isPresent()) {
+            return new ServiceResult(false, "수강 정보가 존재하지 않습니다.");
+        }
+
+        long courseId = optionalTakeCourse.get().getCourseId();
+
+        if (isActive(status)) {
+            //수강중이면 상태만 변경
+            Integer updated = transactionTemplate.execute(s -> takeCourseRepository.updateStatusIfActive(id, status));
+            if (updated != null && updated > 0) {
+                return new ServiceResult(true);
+            }
+
+            //취소된 수강을 다시 살리는 경우 자리/중복 확인
+            long seatLimit = courseRepository.findById(courseId).map(Course::getSeatLimit).orElse(0L);
+            return enrollmentGate.enter(courseId, () -> execute(courseId, () -> {
+                if (takeCourseRepository.updateStatusAndActivate(id, status) < 1) {
+                    //그 사이 다른 요청이 먼저 살린 경우(자리는 그 요청이 차지)
+                    takeCourseRepository.updateStatusIfActive(id, status);
+                    return;
+                }
+                takeSeat(courseId, seatLimit);
+            }));
+        }
+
+        Boolean released = transactionTemplate.execute(s -> {
+            if (takeCourseRepository.updateStatusAndDeactivate(id, status) < 1) {
+                //이미 취소된 경우 상태만 변경
+                takeCourseRepository.updateStatusIfInactive(id, status);
+                return false;
+            }
+            courseRepository.increaseSeatRemain(courseId);
+            return true;
+        });
+
+        if (Boolean.TRUE.equals(released)) {
+            enrollmentGate.clearSoldOut(courseId);
+        }
+        return new ServiceResult(true);
+    }
+
+    /**
+     * 수강정보 상태 일괄 변경(CHUNK_SIZE 개씩 한 트랜잭션)
+     * - 신청/결재완료: 수강중인 것만 상태 변경(취소된 수강을 다시 살리는 것은 자리/중복 확인이 필요해서 제외)
+     * - 취소: 수강중인 것을 잠그고 상태 변경 후 강좌별로 한번에 자리 반환
+     */
+    public ServiceResult changeStatus(List<Long> idList, String status) {
+
+        if (idList.isEmpty()) {
+            return new ServiceResult(false, "선택된 수강 정보가 없습니다.");
+        }
+
+        if (!isActive(status) && !TakeCourseCode.STATUS_CANCEL.equals(status)) {
+            return new ServiceResult(false, "수강 상태가 올바르지 않습니다.");
+        }
+
+        boolean active = isActive(status);
+        Set<Long> releasedCourseIds = new HashSet<>();
+
+        int count = 0;
+        try {
+            for (List<Long> chunk : ListUtils.partition(idList, CHUNK_SIZE)) {
+                Integer updated = transactionTemplate.execute(s -> active
+                        ? takeCourseRepository.updateStatusForActive(chunk, status)
+                        : deactivate(chunk, status, releasedCourseIds));
+                count += updated == null ? 0 : updated;
+            }
+        } finally {
+            releasedCourseIds.forEach(enrollmentGate::clearSoldOut);
+        }
+
+        return new ServiceResult(true, count + "건 처리되었습니다.");
+    }
+
+    private int deactivate(List<Long> idList, String status, Set<Long> releasedCourseIds) {
+
+        List<TakeCourse> list = takeCourseRepository.findByIdInAndActiveYn(idList, true);
+        if (list.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = new ArrayList<>(list.size());
+        Map<Long, Long> countMap = new HashMap<>();
+        for (TakeCourse x : list) {
+            ids.add(x.getId());
+            countMap.merge(x.getCourseId(), 1L, Long::sum);
+        }
+
+        int count = takeCourseRepository.updateStatusAndDeactivate(ids, status);
+        countMap.forEach(courseRepository::increaseSeatRemain);
+
+        releasedCourseIds.addAll(countMap.keySet());
+        return count;
+    }
+
+    private void takeSeat(long courseId, long seatLimit) {
+
+        if (seatLimit > 0 && courseRepository.decreaseSeatRemain(courseId) < 1) {
+            throw new SoldOutException();
+        }
+    }
+
+    private ServiceResult execute(long courseId, Runnable runnable) {
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> runnable.run());
+        } catch (SoldOutException e) {
+            enrollmentGate.markSoldOut(courseId);
+            return EnrollmentGate.soldOutResult();
+        } catch (DataIntegrityViolationException e) {
+            return new ServiceResult(false, "이미 신청한 강좌 정보가 존재합니다.");
+        }
+
+        return new ServiceResult(true);
+    }
+
+    private static boolean isActive(String status) {
+        return TakeCourseCode.STATUS_REQ.equals(status) || TakeCourseCode.STATUS_COMPLETE.equals(status);
+    }
+
+    private static class SoldOutException extends RuntimeException {
+    }
+}
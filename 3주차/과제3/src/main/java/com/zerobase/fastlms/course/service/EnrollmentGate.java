@@ -0,0 +1,90 @@
+package com.zerobase.fastlms.course.service;
+
+import com.zerobase.fastlms.course.model.ServiceResult;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 수강신청 입장 제한(메모리)
+ * - 강좌ID 로 나눈 구간(stripe)마다 동시에 DB 에 들어가는 신청 수를 제한, 대기시간이 지나면 바로 실패
+ * - 마감된 강좌는 잠시 동안 DB 조회 없이 바로 실패(다른 서버의 취소로 자리가 생길 수 있어서 일정 시간 후 다시 확인)
+ * - 실제 정원/중복 확인은 DB(조건부 update, 유니크 제약)에서 처리
+ */
+@Component
+public class EnrollmentGate {
+
+    private static final int STRIPE_COUNT = 64;
+    private static final int PERMITS_PER_STRIPE = 8;
+    private static final long WAIT_MILLIS = 1000 * 3;
+    private static final long SOLD_OUT_MILLIS = 1000 * 5;
+
+    private final Semaphore[] stripes = new Semaphore[STRIPE_COUNT];
+    private final Map<Long, Long> soldOutMap = new ConcurrentHashMap<>();
+
+    public EnrollmentGate() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Semaphore(PERMITS_PER_STRIPE, true);
+        }
+    }
+
+    public ServiceResult enter(long courseId, Supplier<ServiceResult> supplier) {
+
+        if (isSoldOut(courseId)) {
+            return soldOutResult();
+        }
+
+        Semaphore stripe = stripes[(int) Math.floorMod(courseId, (long) STRIPE_COUNT)];
+
+        boolean acquired;
+        try {
+            acquired = stripe.tryAcquire(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            return new ServiceResult(false, "수강신청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            //기다리는 동안 마감된 경우
+            if (isSoldOut(courseId)) {
+                return soldOutResult();
+            }
+            return supplier.get();
+        } finally {
+            stripe.release();
+        }
+    }
+
+    public void markSoldOut(long courseId) {
+        soldOutMap.put(courseId, System.currentTimeMillis() + SOLD_OUT_MILLIS);
+    }
+
+    public void clearSoldOut(long courseId) {
+        soldOutMap.remove(courseId);
+    }
+
+    private boolean isSoldOut(long courseId) {
+
+        Long until = soldOutMap.get(courseId);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            soldOutMap.remove(courseId, until);
+            return false;
+        }
+        return true;
+    }
+
+    static ServiceResult soldOutResult() {
+        return new ServiceResult(false, "수강 인원이 마감되었습니다.");
+    }
+}
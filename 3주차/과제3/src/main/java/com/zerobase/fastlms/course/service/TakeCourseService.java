@@ -3,6 +3,7 @@ package com.zerobase.fastlms.course.service;
 import com.zerobase.fastlms.course.dto.TakeCourseDto;
 import com.zerobase.fastlms.course.model.ServiceResult;
 import com.zerobase.fastlms.course.model.TakeCourseParam;
+import com.zerobase.fastlms.util.PageList;
 
 import java.util.List;
 
@@ -12,7 +13,7 @@ public interface TakeCourseService {
     /**
      * 수강 목록
      */
-    List<TakeCourseDto> list(TakeCourseParam parameter);
+    PageList<TakeCourseDto> list(TakeCourseParam parameter);
     
     /**
      * 수강 상세 정보
@@ -24,6 +25,11 @@ public interface TakeCourseService {
      */
     ServiceResult updateStatus(long id, String status);
     
+    /**
+     * 수강내용 상태 일괄 변경
+     */
+    ServiceResult updateStatus(List<Long> idList, String status);
+    
     /**
      * 내 수강내역 목록
      */
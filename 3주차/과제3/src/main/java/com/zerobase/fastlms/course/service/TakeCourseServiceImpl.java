@@ -1,5 +1,6 @@
 package com.zerobase.fastlms.course.service;
 
+import com.zerobase.fastlms.components.TotalCountCache;
 import com.zerobase.fastlms.course.dto.CourseDto;
 import com.zerobase.fastlms.course.dto.TakeCourseDto;
 import com.zerobase.fastlms.course.entity.Course;
@@ -10,6 +11,7 @@ import com.zerobase.fastlms.course.mapper.TakeCourseMapper;
 import com.zerobase.fastlms.course.model.*;
 import com.zerobase.fastlms.course.repository.CourseRepository;
 import com.zerobase.fastlms.course.repository.TakeCourseRepository;
+import com.zerobase.fastlms.util.PageList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -27,11 +29,14 @@ public class TakeCourseServiceImpl implements TakeCourseService {
 
     private final TakeCourseRepository takeCourseRepository;
     private final TakeCourseMapper takeCourseMapper;
+    private final TotalCountCache totalCountCache;
+    private final EnrollmentEngine enrollmentEngine;
     
     
     @Override
-    public List<TakeCourseDto> list(TakeCourseParam parameter) {
+    public PageList<TakeCourseDto> list(TakeCourseParam parameter) {
         
+        /*
         long totalCount = takeCourseMapper.selectListCount(parameter);
         
         List<TakeCourseDto> list = takeCourseMapper.selectList(parameter);
@@ -45,8 +50,83 @@ public class TakeCourseServiceImpl implements TakeCourseService {
         }
         
         return list;
+        */
         
+        if (parameter.isCursorPaging()) {
+            PageList<TakeCourseDto> result = listByCursor(parameter);
+            if (result != null) {
+                return result;
+            }
+        }
+        
+        //강좌 조건이 없으면 캐시된 전체개수 사용, 목록과 전체개수(count(*) over())를 한번에 조회
+        PageList<TakeCourseDto> result = totalCountCache.list(TotalCountCache.TAKE_COURSE, parameter.getSearchCourseId() < 1, parameter.getPageStart()
+                , cachedTotalCount -> takeCourseMapper.selectList(parameter, cachedTotalCount)
+                , () -> takeCourseMapper.selectListCount(parameter));
+        
+        //이전/다음 페이지는 키셋 페이징으로 이동
+        if (!result.isEmpty()) {
+            if (parameter.getPageStart() > 0) {
+                result.setPrevCursor(result.get(0).getId());
+            }
+            if (parameter.getPageStart() + result.size() < result.getTotalCount()) {
+                result.setNextCursor(result.get(result.size() - 1).getId());
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * 키셋 페이징(reg_dt, id)
+     * - offset 없이 커서 행 다음/이전 페이지만 조회하므로 뒤쪽 페이지도 조회량이 같음
+     * - 커서 행이 없으면 null(첫 페이지로)
+     */
+    private PageList<TakeCourseDto> listByCursor(TakeCourseParam parameter) {
+        
+        boolean after = parameter.getAfterId() > 0;
+        
+        Optional<TakeCourse> optionalTakeCourse = takeCourseRepository.findById(after ? parameter.getAfterId() : parameter.getBeforeId());
+        if (!optionalTakeCourse.isPresent()) {
+            parameter.setAfterId(0);
+            parameter.setBeforeId(0);
+            parameter.setPageIndex(1);
+            return null;
+        }
+        
+        TakeCourse cursor = optionalTakeCourse.get();
+        parameter.setCursorRegDt(cursor.getRegDt());
+        parameter.setCursorId(cursor.getId());
+        
+        //한 행 더 조회된 경우 진행방향으로 페이지가 더 있음
+        List<TakeCourseDto> list = takeCourseMapper.selectListByCursor(parameter);
+        boolean hasMore = list.size() > parameter.getPageSize();
+        if (hasMore) {
+            list.remove(after ? list.size() - 1 : 0);
+        }
+        if (!after && !hasMore) {
+            //첫 페이지까지 이동
+            parameter.setPageIndex(1);
+        }
+        
+        long totalCount = totalCountCache.getTotalCount(TotalCountCache.TAKE_COURSE, parameter.getSearchCourseId() < 1
+                , () -> takeCourseMapper.selectListCount(parameter));
+        for (int i = 0; i < list.size(); i++) {
+            list.get(i).setTotalCount(totalCount);
+            list.get(i).setSeq(totalCount - parameter.getPageStart() - i);
+        }
+        
+        PageList<TakeCourseDto> result = new PageList<>(list, totalCount);
+        if (!list.isEmpty()) {
+            if (after || hasMore) {
+                result.setPrevCursor(list.get(0).getId());
+            }
+            if (!after || hasMore) {
+                result.setNextCursor(list.get(list.size() - 1).getId());
+            }
+        }
         
+        return result;
     }
     
     @Override
@@ -62,6 +142,7 @@ public class TakeCourseServiceImpl implements TakeCourseService {
     @Override
     public ServiceResult updateStatus(long id, String status) {
         
+        /*
         Optional<TakeCourse> optionalTakeCourse = takeCourseRepository.findById(id);
         if (!optionalTakeCourse.isPresent()) {
             return new ServiceResult(false, "수강 정보가 존재하지 않습니다.");
@@ -73,6 +154,17 @@ public class TakeCourseServiceImpl implements TakeCourseService {
         takeCourseRepository.save(takeCourse);
         
         return new ServiceResult(true);
+        */
+        
+        //취소되면 자리 반환, 취소에서 다시 신청/결재완료가 되면 자리/중복 확인
+        return enrollmentEngine.changeStatus(id, status);
+    }
+    
+    @Override
+    public ServiceResult updateStatus(List<Long> idList, String status) {
+        
+        //1000건씩 in 절 update, 취소는 강좌별로 자리 반환
+        return enrollmentEngine.changeStatus(idList, status);
     }
     
     @Override
@@ -87,7 +179,8 @@ public class TakeCourseServiceImpl implements TakeCourseService {
     
     @Override
     public ServiceResult cancel(long id) {
-    
+        
+        /*
         Optional<TakeCourse> optionalTakeCourse = takeCourseRepository.findById(id);
         if (!optionalTakeCourse.isPresent()) {
             return new ServiceResult(false, "수강 정보가 존재하지 않습니다.");
@@ -99,6 +192,9 @@ public class TakeCourseServiceImpl implements TakeCourseService {
         takeCourseRepository.save(takeCourse);
         
         return new ServiceResult();
+        */
+        
+        return enrollmentEngine.changeStatus(id, TakeCourseCode.STATUS_CANCEL);
     }
 }
 
@@ -0,0 +1,42 @@
+package com.zerobase.fastlms.mail.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Entity
+@Table(indexes = {
+        @Index(name = "ix_mail_outbox_status_next_try_dt", columnList = "status, nextTryDt")
+})
+public class MailOutbox implements MailOutboxCode {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+    
+    String mail;
+    String subject;
+    
+    @Lob
+    String text;
+    
+    String status;//상태(발송대기, 발송중, 발송완료, 발송실패)
+    int retryCount;//발송 실패 횟수
+    
+    //발송대기: 다음 발송 시각, 발송중: 이 시각이 지나면 다시 발송대기(발송중에 서버가 종료된 경우)
+    LocalDateTime nextTryDt;
+    
+    @Column(length = 1000)
+    String lastError;
+    
+    LocalDateTime regDt;
+    LocalDateTime sentDt;
+}
@@ -0,0 +1,10 @@
+package com.zerobase.fastlms.mail.entity;
+
+public interface MailOutboxCode {
+    
+    String STATUS_READY = "READY";//발송대기
+    String STATUS_SENDING = "SENDING";//발송중
+    String STATUS_SENT = "SENT";//발송완료
+    String STATUS_DEAD = "DEAD";//발송실패(재시도 횟수 초과)
+    
+}
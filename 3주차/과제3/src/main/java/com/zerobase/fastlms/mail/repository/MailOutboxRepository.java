@@ -0,0 +1,53 @@
+package com.zerobase.fastlms.mail.repository;
+
+import com.zerobase.fastlms.mail.entity.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+    
+    List<MailOutbox> findTop20ByStatusAndNextTryDtLessThanEqualOrderByIdAsc(String status, LocalDateTime nextTryDt);
+    
+    /**
+     * 발송대기인 메일을 발송중으로 변경(여러 서버가 같은 메일을 발송하지 않도록 1 건인 경우만 발송)
+     */
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = 'SENDING', m.nextTryDt = :leaseDt where m.id = :id and m.status = 'READY'")
+    int claim(@Param("id") long id, @Param("leaseDt") LocalDateTime leaseDt);
+    
+    /**
+     * 발송중에 서버가 종료되어 남은 메일을 다시 발송대기로 변경
+     */
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = 'READY' where m.status = 'SENDING' and m.nextTryDt < :now")
+    int releaseExpired(@Param("now") LocalDateTime now);
+    
+    /**
+     * 발송완료로 변경(claim 한 그대로인 경우만, 그 사이 다시 발송대기/다른 서버가 발송중이면 0 건)
+     */
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = 'SENT', m.sentDt = :sentDt, m.lastError = null"
+            + " where m.id = :id and m.status = 'SENDING' and m.nextTryDt = :leaseDt")
+    int markSent(@Param("id") long id, @Param("leaseDt") LocalDateTime leaseDt, @Param("sentDt") LocalDateTime sentDt);
+    
+    /**
+     * 발송대기(재시도) 또는 발송실패로 변경(claim 한 그대로인 경우만)
+     */
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = :status, m.retryCount = :retryCount, m.nextTryDt = :nextTryDt, m.lastError = :lastError"
+            + " where m.id = :id and m.status = 'SENDING' and m.nextTryDt = :leaseDt")
+    int markFailed(@Param("id") long id, @Param("leaseDt") LocalDateTime leaseDt
+            , @Param("status") String status, @Param("retryCount") int retryCount
+            , @Param("nextTryDt") LocalDateTime nextTryDt, @Param("lastError") String lastError);
+    
+}
@@ -0,0 +1,196 @@
+package com.zerobase.fastlms.mail.service;
+
+import com.zerobase.fastlms.mail.entity.MailOutbox;
+import com.zerobase.fastlms.mail.repository.MailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송(mail_outbox)
+ * - 별도 스레드 하나에서 발송대기 메일을 20 건씩 가져와 SMTP 연결 하나로 발송(JavaMailSender.send(MimeMessage...))
+ * - 메일 등록 트랜잭션이 커밋되면 바로, 그 외에는 POLL_SECONDS 마다 확인
+ * - 실패하면 retryCount 증가 후 30초, 1분, 2분 ... 뒤에 다시 발송, MAX_RETRY 번 실패하면 발송실패(DEAD)
+ * - 발송결과는 claim 한 발송중 상태(nextTryDt = 발송중 만료시각)가 그대로인 경우만 저장(그 사이 다른 서버가 다시 가져간 경우 덮어쓰지 않음)
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+    
+    static final int MAX_RETRY = 5;
+    
+    private static final long POLL_SECONDS = 10;
+    private static final long LEASE_MINUTES = 5;
+    private static final long RETRY_SECONDS = 30;
+    private static final int ERROR_LENGTH = 1000;
+    
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+    
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "mail-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    public MailDispatcher(MailOutboxRepository mailOutboxRepository, JavaMailSender javaMailSender) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::run, 0, POLL_SECONDS, TimeUnit.SECONDS);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * 다음 확인 시각을 기다리지 않고 발송
+     */
+    public void wakeUp() {
+        
+        try {
+            executor.execute(this::run);
+        } catch (RejectedExecutionException e) {
+            //종료중
+        }
+    }
+    
+    private void run() {
+        
+        try {
+            while (dispatch() > 0) {
+                //남은 메일이 없을때까지
+            }
+        } catch (RuntimeException e) {
+            log.warn("메일 발송 처리 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 발송대기 메일을 최대 20 건 발송, 처리한 건수 반환
+     */
+    public int dispatch() {
+        
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.releaseExpired(now);
+        
+        //DB 에 저장된 값과 비교하므로 초 단위
+        LocalDateTime leaseDt = now.plusMinutes(LEASE_MINUTES).truncatedTo(ChronoUnit.SECONDS);
+        
+        List<MailOutbox> claimedList = new ArrayList<>();
+        for (MailOutbox x : mailOutboxRepository.findTop20ByStatusAndNextTryDtLessThanEqualOrderByIdAsc(MailOutbox.STATUS_READY, now)) {
+            if (mailOutboxRepository.claim(x.getId(), leaseDt) > 0) {
+                claimedList.add(x);
+            }
+        }
+        
+        if (claimedList.isEmpty()) {
+            return 0;
+        }
+        
+        Map<Long, Exception> errorMap = send(claimedList);
+        
+        LocalDateTime sentDt = LocalDateTime.now();
+        for (MailOutbox x : claimedList) {
+            Exception e = errorMap.get(x.getId());
+            int updated = e == null
+                    ? mailOutboxRepository.markSent(x.getId(), leaseDt, sentDt)
+                    : fail(x, leaseDt, e, sentDt);
+            if (updated < 1) {
+                log.warn("메일 발송결과 저장 안함(" + x.getId() + ", 발송중 만료 후 다시 발송대기)");
+            }
+        }
+        
+        return claimedList.size();
+    }
+    
+    /**
+     * 실패한 메일ID 와 오류
+     */
+    private Map<Long, Exception> send(List<MailOutbox> list) {
+        
+        Map<Long, Exception> errorMap = new HashMap<>();
+        Map<MimeMessage, MailOutbox> messageMap = new LinkedHashMap<>();
+        
+        for (MailOutbox x : list) {
+            try {
+                MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+                MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+                mimeMessageHelper.setTo(x.getMail());
+                mimeMessageHelper.setSubject(x.getSubject());
+                mimeMessageHelper.setText(x.getText(), true);
+                messageMap.put(mimeMessage, x);
+            } catch (MessagingException e) {
+                errorMap.put(x.getId(), e);
+            }
+        }
+        
+        if (messageMap.isEmpty()) {
+            return errorMap;
+        }
+        
+        try {
+            javaMailSender.send(messageMap.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            //메일별 실패 정보가 없으면 전체 실패
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (Map.Entry<MimeMessage, MailOutbox> entry : messageMap.entrySet()) {
+                if (failedMessages.isEmpty()) {
+                    errorMap.put(entry.getValue().getId(), e);
+                } else if (failedMessages.containsKey(entry.getKey())) {
+                    errorMap.put(entry.getValue().getId(), failedMessages.get(entry.getKey()));
+                }
+            }
+        } catch (MailException e) {
+            messageMap.values().forEach(x -> errorMap.put(x.getId(), e));
+        }
+        
+        return errorMap;
+    }
+    
+    private int fail(MailOutbox mailOutbox, LocalDateTime leaseDt, Exception e, LocalDateTime now) {
+        
+        String message = String.valueOf(e.getMessage());
+        if (message.length() > ERROR_LENGTH) {
+            message = message.substring(0, ERROR_LENGTH);
+        }
+        
+        int retryCount = mailOutbox.getRetryCount() + 1;
+        
+        if (retryCount >= MAX_RETRY) {
+            log.error("메일 발송 실패(" + mailOutbox.getId() + ", " + mailOutbox.getMail() + "): " + message);
+            return mailOutboxRepository.markFailed(mailOutbox.getId(), leaseDt
+                    , MailOutbox.STATUS_DEAD, retryCount, now, message);
+        }
+        
+        long delaySeconds = RETRY_SECONDS << (retryCount - 1);
+        log.warn("메일 발송 재시도 예정(" + mailOutbox.getId() + ", " + retryCount + "회 실패): " + message);
+        return mailOutboxRepository.markFailed(mailOutbox.getId(), leaseDt
+                , MailOutbox.STATUS_READY, retryCount, now.plusSeconds(delaySeconds), message);
+    }
+}
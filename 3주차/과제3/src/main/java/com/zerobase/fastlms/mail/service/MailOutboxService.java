@@ -0,0 +1,11 @@
+package com.zerobase.fastlms.mail.service;
+
+public interface MailOutboxService {
+    
+    
+    /**
+     * 메일 발송 등록(호출한 트랜잭션에서 저장, 커밋 후 MailDispatcher 가 발송)
+     */
+    void add(String mail, String subject, String text);
+    
+}
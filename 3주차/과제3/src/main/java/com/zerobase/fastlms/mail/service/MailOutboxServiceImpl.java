@@ -0,0 +1,47 @@
+package com.zerobase.fastlms.mail.service;
+
+import com.zerobase.fastlms.mail.entity.MailOutbox;
+import com.zerobase.fastlms.mail.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+@Service
+public class MailOutboxServiceImpl implements MailOutboxService {
+    
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailDispatcher mailDispatcher;
+    
+    @Override
+    public void add(String mail, String subject, String text) {
+        
+        LocalDateTime now = LocalDateTime.now();
+        
+        MailOutbox mailOutbox = MailOutbox.builder()
+                .mail(mail)
+                .subject(subject)
+                .text(text)
+                .status(MailOutbox.STATUS_READY)
+                .nextTryDt(now)
+                .regDt(now)
+                .build();
+        mailOutboxRepository.save(mailOutbox);
+        
+        //커밋된 후 바로 발송(롤백되면 발송하지 않음), 트랜잭션이 없으면 저장 후 바로
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailDispatcher.wakeUp();
+                }
+            });
+        } else {
+            mailDispatcher.wakeUp();
+        }
+    }
+    
+}
@@ -1,7 +1,6 @@
 package com.zerobase.fastlms.main.controller;
 
 
-import com.zerobase.fastlms.components.MailComponents;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,20 +14,10 @@ import java.io.PrintWriter;
 @RequiredArgsConstructor
 @Controller
 public class MainController {
-
-    private final MailComponents mailComponents;
     
     @RequestMapping("/")
     public String index() {
         
-        /*
-        String email = "satcop@naver.com";
-        String subject = " 안녕하세요. 제로베이스 입니다. ";
-        String text = "<p>안녕하세요.</p><p>반갑습니다.</p>";
-        
-        mailComponents.sendMail(email, subject, text);
-        */
-        
         return "index";
     }
     
@@ -5,6 +5,7 @@ import com.zerobase.fastlms.admin.model.MemberParam;
 import com.zerobase.fastlms.course.model.ServiceResult;
 import com.zerobase.fastlms.member.model.MemberInput;
 import com.zerobase.fastlms.member.model.ResetPasswordInput;
+import com.zerobase.fastlms.util.PageList;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.util.List;
@@ -27,7 +28,7 @@ public interface MemberService extends UserDetailsService {
     /**
      * 회원 목록 리턴(관리자에서만 사용 가능)
      */
-    List<MemberDto> list(MemberParam parameter);
+    PageList<MemberDto> list(MemberParam parameter);
     
     /**
      * 회원 상세 정보
@@ -3,8 +3,10 @@ package com.zerobase.fastlms.member.service.impl;
 import com.zerobase.fastlms.admin.dto.MemberDto;
 import com.zerobase.fastlms.admin.mapper.MemberMapper;
 import com.zerobase.fastlms.admin.model.MemberParam;
-import com.zerobase.fastlms.components.MailComponents;
+import com.zerobase.fastlms.components.MemberUserCache;
+import com.zerobase.fastlms.components.TotalCountCache;
 import com.zerobase.fastlms.course.model.ServiceResult;
+import com.zerobase.fastlms.mail.service.MailOutboxService;
 import com.zerobase.fastlms.member.entity.Member;
 import com.zerobase.fastlms.member.entity.MemberCode;
 import com.zerobase.fastlms.member.exception.MemberNotEmailAuthException;
@@ -13,6 +15,7 @@ import com.zerobase.fastlms.member.model.MemberInput;
 import com.zerobase.fastlms.member.model.ResetPasswordInput;
 import com.zerobase.fastlms.member.repository.MemberRepository;
 import com.zerobase.fastlms.member.service.MemberService;
+import com.zerobase.fastlms.util.PageList;
 import com.zerobase.fastlms.util.PasswordUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -22,7 +25,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -36,13 +41,16 @@ import java.util.UUID;
 public class MemberServiceImpl implements MemberService {
     
     private final MemberRepository memberRepository;
-    private final MailComponents mailComponents;
+    private final MailOutboxService mailOutboxService;
     
     private final MemberMapper memberMapper;
+    private final TotalCountCache totalCountCache;
+    private final MemberUserCache memberUserCache;
     
     /**
      * 회원 가입
      */
+    @Transactional
     @Override
     public boolean register(MemberInput parameter) {
     
@@ -66,12 +74,15 @@ public class MemberServiceImpl implements MemberService {
                 .userStatus(Member.MEMBER_STATUS_REQ)
                 .build();
         memberRepository.save(member);
+        totalCountCache.evict(TotalCountCache.MEMBER);
         
         String email = parameter.getUserId();
         String subject = "fastlms 사이트 가입을 축하드립니다. ";
         String text = "<p>fastlms 사이트 가입을 축하드립니다.<p><p>아래 링크를 클릭하셔서 가입을 완료 하세요.</p>"
                 + "<div><a target='_blank' href='http://localhost:8080/member/email-auth?id=" + uuid + "'> 가입 완료 </a></div>";
-        mailComponents.sendMail(email, subject, text);
+        
+        //회원정보와 같은 트랜잭션에 저장, 발송은 MailDispatcher 에서
+        mailOutboxService.add(email, subject, text);
         
         return true;
     }
@@ -94,10 +105,12 @@ public class MemberServiceImpl implements MemberService {
         member.setEmailAuthYn(true);
         member.setEmailAuthDt(LocalDateTime.now());
         memberRepository.save(member);
+        memberUserCache.removeUserFromCache(member.getUserId());
         
         return true;
     }
     
+    @Transactional
     @Override
     public boolean sendResetPassword(ResetPasswordInput parameter) {
     
@@ -119,14 +132,15 @@ public class MemberServiceImpl implements MemberService {
         String text = "<p>fastlms 비밀번호 초기화 메일 입니다.<p>" +
                 "<p>아래 링크를 클릭하셔서 비밀번호를 초기화 해주세요.</p>"+
                 "<div><a target='_blank' href='http://localhost:8080/member/reset/password?id=" + uuid + "'> 비밀번호 초기화 링크 </a></div>";
-        mailComponents.sendMail(email, subject, text);
+        mailOutboxService.add(email, subject, text);
     
         return false;
     }
     
     @Override
-    public List<MemberDto> list(MemberParam parameter) {
+    public PageList<MemberDto> list(MemberParam parameter) {
         
+        /*
         long totalCount = memberMapper.selectListCount(parameter);
         
         List<MemberDto> list = memberMapper.selectList(parameter);
@@ -140,6 +154,13 @@ public class MemberServiceImpl implements MemberService {
         }
         
         return list;
+        */
+        
+        //검색어가 없으면 캐시된 전체개수 사용, 목록과 전체개수(count(*) over())를 한번에 조회
+        boolean unfiltered = parameter.getSearchType() == null || !StringUtils.hasText(parameter.getSearchValue());
+        return totalCountCache.list(TotalCountCache.MEMBER, unfiltered, parameter.getPageStart()
+                , cachedTotalCount -> memberMapper.selectList(parameter, cachedTotalCount)
+                , () -> memberMapper.selectListCount(parameter));
         
         //return memberRepository.findAll();
     }
@@ -169,6 +190,7 @@ public class MemberServiceImpl implements MemberService {
         
         member.setUserStatus(userStatus);
         memberRepository.save(member);
+        memberUserCache.removeUserFromCache(userId);
         
         return true;
     }
@@ -186,6 +208,7 @@ public class MemberServiceImpl implements MemberService {
         String encPassword = BCrypt.hashpw(password, BCrypt.gensalt());
         member.setPassword(encPassword);
         memberRepository.save(member);
+        memberUserCache.removeUserFromCache(userId);
     
         return true;
         
@@ -232,6 +255,7 @@ public class MemberServiceImpl implements MemberService {
         String encPassword = PasswordUtils.encPassword(parameter.getNewPassword());
         member.setPassword(encPassword);
         memberRepository.save(member);
+        memberUserCache.removeUserFromCache(userId);
         
         return new ServiceResult(true);
     }
@@ -265,6 +289,7 @@ public class MemberServiceImpl implements MemberService {
         member.setAddr("");
         member.setAddrDetail("");
         memberRepository.save(member);
+        memberUserCache.removeUserFromCache(userId);
         
         return new ServiceResult();
     }
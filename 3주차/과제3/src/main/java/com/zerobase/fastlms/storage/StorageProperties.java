@@ -0,0 +1,48 @@
+package com.zerobase.fastlms.storage;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Component
+@ConfigurationProperties("storage")
+public class StorageProperties {
+    
+    public static final String TYPE_LOCAL = "local";
+    public static final String TYPE_S3 = "s3";
+    
+    //저장소 종류(local, s3)
+    private String type = TYPE_LOCAL;
+    
+    //로컬 저장 경로(urlPath 로 제공)
+    private String root = "files";
+    private String urlPath = "/files";
+    
+    //업로드 임시파일 경로(제공되지 않도록 root 밖, 이동(rename)할 수 있게 root 와 같은 디스크)
+    private String tempDir = "files-tmp";
+    
+    private DataSize maxFileSize = DataSize.ofMegabytes(20);
+    
+    private S3 s3 = new S3();
+    
+    /**
+     * S3 호환 저장소(path-style 주소: endpoint/bucket/key)
+     */
+    @Data
+    public static class S3 {
+        
+        private String endpoint;
+        private String region = "us-east-1";
+        private String bucket;
+        private String accessKey;
+        private String secretKey;
+        
+        //파일 주소(CDN 등), 없으면 endpoint/bucket
+        private String publicUrl;
+        
+        private int connectTimeout = 2000;
+        private int readTimeout = 30000;
+    }
+}
@@ -0,0 +1,62 @@
+package com.zerobase.fastlms.storage.backend;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 파일 저장소
+ * - 임시파일(storage.temp-dir)을 같은 디스크에 만들어서 복사 없이 이동(rename)
+ */
+public class LocalStorageBackend implements StorageBackend {
+    
+    private final Path root;
+    private final String urlPath;
+    
+    public LocalStorageBackend(Path root, String urlPath) {
+        this.root = root.toAbsolutePath().normalize();
+        this.urlPath = urlPath;
+    }
+    
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+    
+    @Override
+    public void put(String key, Path file, String sha256, String contentType) throws IOException {
+        
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        
+        try {
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            //같은 내용이 먼저 저장된 경우
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    @Override
+    public String getLocation(String key) {
+        return resolve(key).toString();
+    }
+    
+    @Override
+    public String getUrl(String key) {
+        return urlPath + "/" + key;
+    }
+    
+    private Path resolve(String key) {
+        
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로 입니다.");
+        }
+        return path;
+    }
+}
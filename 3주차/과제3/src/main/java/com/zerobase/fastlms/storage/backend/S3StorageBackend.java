@@ -0,0 +1,178 @@
+package com.zerobase.fastlms.storage.backend;
+
+import com.zerobase.fastlms.storage.StorageProperties;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * S3 호환 저장소(AWS S3, MinIO 등)
+ * - SDK 없이 REST API(PUT/HEAD/DELETE) 호출, 서명은 AWS Signature Version 4
+ * - 업로드할때 계산한 sha256 을 x-amz-content-sha256 로 보내서 파일을 다시 읽지 않고 서명
+ */
+public class S3StorageBackend implements StorageBackend {
+    
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String EMPTY_SHA256 = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+    private static final String SIGNED_HEADERS = "host;x-amz-content-sha256;x-amz-date";
+    
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter DATE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd");
+    
+    private final StorageProperties.S3 properties;
+    private final String endpoint;
+    
+    public S3StorageBackend(StorageProperties.S3 properties) {
+        this.properties = properties;
+        this.endpoint = trimSlash(properties.getEndpoint());
+    }
+    
+    @Override
+    public boolean exists(String key) throws IOException {
+        
+        HttpURLConnection connection = open("HEAD", key, EMPTY_SHA256);
+        try {
+            int status = connection.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NOT_FOUND) {
+                return false;
+            }
+            check("HEAD", key, status);
+            return true;
+        } finally {
+            connection.disconnect();
+        }
+    }
+    
+    @Override
+    public void put(String key, Path file, String sha256, String contentType) throws IOException {
+        
+        HttpURLConnection connection = open("PUT", key, sha256);
+        try {
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(Files.size(file));
+            if (contentType != null) {
+                connection.setRequestProperty("Content-Type", contentType);
+            }
+            
+            try (OutputStream out = connection.getOutputStream()) {
+                Files.copy(file, out);
+            }
+            check("PUT", key, connection.getResponseCode());
+        } finally {
+            connection.disconnect();
+        }
+    }
+    
+    @Override
+    public String getLocation(String key) {
+        return "s3://" + properties.getBucket() + "/" + key;
+    }
+    
+    @Override
+    public String getUrl(String key) {
+        
+        String publicUrl = trimSlash(properties.getPublicUrl());
+        if (publicUrl.length() > 0) {
+            return publicUrl + "/" + key;
+        }
+        return endpoint + "/" + properties.getBucket() + "/" + key;
+    }
+    
+    private HttpURLConnection open(String method, String key, String payloadSha256) throws IOException {
+        
+        URL url = new URL(endpoint + "/" + properties.getBucket() + "/" + key);
+        
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        String amzDate = now.format(AMZ_DATE);
+        String dateStamp = now.format(DATE_STAMP);
+        String host = url.getPort() < 0 ? url.getHost() : url.getHost() + ":" + url.getPort();
+        
+        //key 는 sha256 과 확장자(영문/숫자)라서 경로 인코딩이 필요 없음
+        String canonicalRequest = method + "\n"
+                + url.getPath() + "\n"
+                + "\n"
+                + "host:" + host + "\n"
+                + "x-amz-content-sha256:" + payloadSha256 + "\n"
+                + "x-amz-date:" + amzDate + "\n"
+                + "\n"
+                + SIGNED_HEADERS + "\n"
+                + payloadSha256;
+        
+        String scope = dateStamp + "/" + properties.getRegion() + "/s3/aws4_request";
+        String stringToSign = ALGORITHM + "\n" + amzDate + "\n" + scope + "\n" + sha256Hex(canonicalRequest);
+        
+        byte[] signingKey = hmac(("AWS4" + properties.getSecretKey()).getBytes(StandardCharsets.UTF_8), dateStamp);
+        signingKey = hmac(signingKey, properties.getRegion());
+        signingKey = hmac(signingKey, "s3");
+        signingKey = hmac(signingKey, "aws4_request");
+        String signature = hex(hmac(signingKey, stringToSign));
+        
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        connection.setConnectTimeout(properties.getConnectTimeout());
+        connection.setReadTimeout(properties.getReadTimeout());
+        connection.setRequestProperty("x-amz-date", amzDate);
+        connection.setRequestProperty("x-amz-content-sha256", payloadSha256);
+        connection.setRequestProperty("Authorization", ALGORITHM
+                + " Credential=" + properties.getAccessKey() + "/" + scope
+                + ", SignedHeaders=" + SIGNED_HEADERS
+                + ", Signature=" + signature);
+        return connection;
+    }
+    
+    private static void check(String method, String key, int status) throws IOException {
+        
+        if (status / 100 != 2) {
+            throw new IOException("S3 " + method + " 실패(" + status + "): " + key);
+        }
+    }
+    
+    private static byte[] hmac(byte[] key, String value) {
+        
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static String sha256Hex(String value) {
+        
+        try {
+            return hex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static String hex(byte[] bytes) {
+        
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+    
+    private static String trimSlash(String value) {
+        
+        if (value == null) {
+            return "";
+        }
+        return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+    }
+}
@@ -0,0 +1,34 @@
+package com.zerobase.fastlms.storage.backend;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 파일 저장소
+ * - key 는 파일 내용의 sha256 으로 만들어서 같은 key 면 같은 파일
+ * - 같은 파일을 여러 강좌가 같이 사용하므로 삭제는 제공하지 않음
+ */
+public interface StorageBackend {
+    
+    
+    /**
+     * key 로 저장된 파일이 있는지
+     */
+    boolean exists(String key) throws IOException;
+    
+    /**
+     * file 을 key 로 저장(file 은 이동될 수 있음, 남아있으면 호출한 쪽에서 삭제)
+     */
+    void put(String key, Path file, String sha256, String contentType) throws IOException;
+    
+    /**
+     * 저장 위치
+     */
+    String getLocation(String key);
+    
+    /**
+     * 파일 주소
+     */
+    String getUrl(String key);
+    
+}
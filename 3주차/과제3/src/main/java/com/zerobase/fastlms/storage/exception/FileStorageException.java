@@ -0,0 +1,11 @@
+package com.zerobase.fastlms.storage.exception;
+
+public class FileStorageException extends RuntimeException {
+    public FileStorageException(String error) {
+        super(error);
+    }
+    
+    public FileStorageException(String error, Throwable cause) {
+        super(error, cause);
+    }
+}
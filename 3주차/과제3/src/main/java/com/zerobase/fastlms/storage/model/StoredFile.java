@@ -0,0 +1,19 @@
+package com.zerobase.fastlms.storage.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class StoredFile {
+    
+    String filename;//저장 위치(로컬 경로, s3://bucket/key)
+    String urlFilename;//파일 주소
+    
+    long size;
+    String sha256;
+}
@@ -0,0 +1,14 @@
+package com.zerobase.fastlms.storage.service;
+
+import com.zerobase.fastlms.storage.model.StoredFile;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface FileStorageService {
+    
+    
+    /**
+     * 업로드 파일 저장(내용이 같은 파일은 한번만 저장), 파일이 없으면 null
+     */
+    StoredFile store(MultipartFile file);
+    
+}
@@ -0,0 +1,133 @@
+package com.zerobase.fastlms.storage.service;
+
+import com.zerobase.fastlms.storage.StorageProperties;
+import com.zerobase.fastlms.storage.backend.StorageBackend;
+import com.zerobase.fastlms.storage.exception.FileStorageException;
+import com.zerobase.fastlms.storage.model.StoredFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+/**
+ * 업로드 파일 저장
+ * - 업로드 스트림을 FileChannel.transferFrom 으로 임시파일에 바로 기록하면서 sha256 계산(한번만 읽음)
+ * - 저장 key 는 sha256 앞 2글자/sha256.확장자, 이미 있으면 저장하지 않음(중복 제거)
+ * - 최대 크기를 넘으면 기록 중에 중단
+ */
+@Slf4j
+@Service
+public class FileStorageServiceImpl implements FileStorageService {
+    
+    private static final long TRANSFER_SIZE = 1024 * 1024;
+    
+    private final StorageBackend storageBackend;
+    private final Path tempDir;
+    private final long maxFileSize;
+    
+    public FileStorageServiceImpl(StorageBackend storageBackend, StorageProperties storageProperties) {
+        this.storageBackend = storageBackend;
+        this.tempDir = Paths.get(storageProperties.getTempDir());
+        this.maxFileSize = storageProperties.getMaxFileSize().toBytes();
+    }
+    
+    @Override
+    public StoredFile store(MultipartFile file) {
+        
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+        
+        if (file.getSize() > maxFileSize) {
+            throw tooLarge();
+        }
+        
+        Path temp = null;
+        try {
+            Files.createDirectories(tempDir);
+            temp = Files.createTempFile(tempDir, "upload-", ".tmp");
+            
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = 0;
+            try (ReadableByteChannel in = Channels.newChannel(new DigestInputStream(file.getInputStream(), digest));
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long count;
+                while ((count = out.transferFrom(in, size, TRANSFER_SIZE)) > 0) {
+                    size += count;
+                    if (size > maxFileSize) {
+                        throw tooLarge();
+                    }
+                }
+            }
+            
+            String sha256 = hex(digest.digest());
+            String key = sha256.substring(0, 2) + "/" + sha256 + getExtension(file.getOriginalFilename());
+            
+            if (!storageBackend.exists(key)) {
+                storageBackend.put(key, temp, sha256, file.getContentType());
+            }
+            
+            return StoredFile.builder()
+                    .filename(storageBackend.getLocation(key))
+                    .urlFilename(storageBackend.getUrl(key))
+                    .size(size)
+                    .sha256(sha256)
+                    .build();
+            
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("파일 저장 실패: " + e.getMessage());
+            throw new FileStorageException("파일을 저장하지 못했습니다.", e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("임시파일 삭제 실패: " + temp);
+                }
+            }
+        }
+    }
+    
+    private FileStorageException tooLarge() {
+        return new FileStorageException("파일은 " + (maxFileSize / 1024 / 1024) + "MB 까지 업로드 할 수 있습니다.");
+    }
+    
+    /**
+     * 원본 파일명의 확장자(영문/숫자 10자 이하만, 없으면 빈 문자열)
+     */
+    private static String getExtension(String originalFilename) {
+        
+        if (originalFilename == null) {
+            return "";
+        }
+        
+        int dotPos = originalFilename.lastIndexOf(".");
+        if (dotPos < 0) {
+            return "";
+        }
+        
+        String extension = originalFilename.substring(dotPos + 1).toLowerCase(Locale.ROOT);
+        return extension.matches("[a-z0-9]{1,10}") ? "." + extension : "";
+    }
+    
+    private static String hex(byte[] bytes) {
+        
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
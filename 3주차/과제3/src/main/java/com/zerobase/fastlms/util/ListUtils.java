@@ -0,0 +1,47 @@
+package com.zerobase.fastlms.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ListUtils {
+    
+    /**
+     * "1,2,3" 형식의 ID 목록(숫자가 아니거나 0 이하는 제외, 중복 제거)
+     */
+    public static List<Long> toIdList(String idList) {
+        
+        if (idList == null || idList.length() < 1) {
+            return Collections.emptyList();
+        }
+        
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String x : idList.split(",")) {
+            long id = 0L;
+            try {
+                id = Long.parseLong(x.trim());
+            } catch (Exception e) {
+            }
+            
+            if (id > 0) {
+                ids.add(id);
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+    
+    /**
+     * size 개씩 나눈 목록(in 절 파라미터 수 제한)
+     */
+    public static <T> List<List<T>> partition(List<T> list, int size) {
+        
+        List<List<T>> result = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += size) {
+            result.add(list.subList(i, Math.min(i + size, list.size())));
+        }
+        return result;
+    }
+
+}
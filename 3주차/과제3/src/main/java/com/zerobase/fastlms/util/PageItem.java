@@ -0,0 +1,13 @@
+package com.zerobase.fastlms.util;
+
+/**
+ * 관리자 목록의 한 행
+ * - 목록 쿼리의 count(*) over() 전체개수와 화면에 보이는 순번
+ */
+public interface PageItem {
+    
+    long getTotalCount();
+    
+    void setSeq(long seq);
+    
+}
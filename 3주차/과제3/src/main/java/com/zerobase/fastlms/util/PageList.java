@@ -0,0 +1,43 @@
+package com.zerobase.fastlms.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 페이지 목록 + 전체개수
+ * - 목록 쿼리에서 count(*) over() 로 같이 조회한 전체개수를 담아서 PageUtil 에 그대로 전달
+ * - 키셋 페이징 목록은 이전/다음 페이지 커서(기준 행의 id)도 같이 전달
+ */
+public class PageList<T> extends ArrayList<T> {
+    
+    private final long totalCount;
+    
+    private Long prevCursor;
+    private Long nextCursor;
+    
+    public PageList(List<T> list, long totalCount) {
+        super(list);
+        this.totalCount = totalCount;
+    }
+    
+    public long getTotalCount() {
+        return totalCount;
+    }
+    
+    public Long getPrevCursor() {
+        return prevCursor;
+    }
+    
+    public void setPrevCursor(Long prevCursor) {
+        this.prevCursor = prevCursor;
+    }
+    
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+}
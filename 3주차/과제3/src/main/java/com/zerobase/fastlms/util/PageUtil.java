@@ -1,5 +1,7 @@
 package com.zerobase.fastlms.util;
 
+import com.zerobase.fastlms.admin.model.CommonParam;
+
 public class PageUtil {
 
     /**
@@ -42,6 +44,12 @@ public class PageUtil {
      */
     private String queryString;
 
+    /**
+     * 이전/다음 페이지 커서(키셋 페이징), 없으면 페이지블럭 단위로 이동
+     */
+    private Long prevCursor;
+    private Long nextCursor;
+
     /*
     전채개수: 156
     한페이지에 나오는 개수는: 10
@@ -67,6 +75,15 @@ public class PageUtil {
         this.pageIndex = pageIndex;
     }
 
+    public PageUtil(PageList<?> list, CommonParam parameter) {
+        this.totalCount = list.getTotalCount();
+        this.pageSize = parameter.getPageSize();
+        this.pageIndex = parameter.getPageIndex();
+        this.queryString = parameter.getQueryString();
+        this.prevCursor = list.getPrevCursor();
+        this.nextCursor = list.getNextCursor();
+    }
+
     public String pager() {
 
         init();
@@ -88,7 +105,11 @@ public class PageUtil {
 
         sb.append(String.format("<a href='?pageIndex=%d%s'>&lt;&lt;</a>", 1, addQueryString));
         sb.append(System.lineSeparator());
-        sb.append(String.format("<a href='?pageIndex=%d%s'>&lt;</a>", previousPageIndex, addQueryString));
+        if (prevCursor != null) {
+            sb.append(String.format("<a href='?pageIndex=%d&beforeId=%d%s'>&lt;</a>", pageIndex - 1, prevCursor, addQueryString));
+        } else {
+            sb.append(String.format("<a href='?pageIndex=%d%s'>&lt;</a>", previousPageIndex, addQueryString));
+        }
         sb.append(System.lineSeparator());
 
         for(long i = startPage; i<= endPage; i++) {
@@ -100,7 +121,11 @@ public class PageUtil {
             sb.append(System.lineSeparator());
         }
 
-        sb.append(String.format("<a href='?pageIndex=%d%s'>&gt;</a>", nextPageIndex, addQueryString));
+        if (nextCursor != null) {
+            sb.append(String.format("<a href='?pageIndex=%d&afterId=%d%s'>&gt;</a>", pageIndex + 1, nextCursor, addQueryString));
+        } else {
+            sb.append(String.format("<a href='?pageIndex=%d%s'>&gt;</a>", nextPageIndex, addQueryString));
+        }
         sb.append(System.lineSeparator());
         sb.append(String.format("<a href='?pageIndex=%d%s'>&gt;&gt;</a>", totalBlockCount, addQueryString));
         sb.append(System.lineSeparator());
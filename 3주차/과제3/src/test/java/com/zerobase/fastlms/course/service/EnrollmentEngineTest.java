@@ -0,0 +1,196 @@
+package com.zerobase.fastlms.course.service;
+
+import com.zerobase.fastlms.course.entity.Course;
+import com.zerobase.fastlms.course.entity.TakeCourse;
+import com.zerobase.fastlms.course.entity.TakeCourseCode;
+import com.zerobase.fastlms.course.model.ServiceResult;
+import com.zerobase.fastlms.course.repository.CourseRepository;
+import com.zerobase.fastlms.course.repository.TakeCourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 수강신청/상태변경 분기(조건부 update 결과에 따라 자리 차지/반환, 롤백, 마감 표시) 확인
+ * - 저장소는 mock 이라 실제 SQL(조건부 update, ux_take_course_active 유니크 제약)은 확인하지 않음
+ */
+class EnrollmentEngineTest {
+
+    private static final long COURSE_ID = 1L;
+    private static final long TAKE_COURSE_ID = 10L;
+    private static final String USER_ID = "user@test.com";
+
+    private CourseRepository courseRepository;
+    private TakeCourseRepository takeCourseRepository;
+    private PlatformTransactionManager transactionManager;
+    private EnrollmentEngine enrollmentEngine;
+
+    @BeforeEach
+    void setUp() {
+
+        courseRepository = mock(CourseRepository.class);
+        takeCourseRepository = mock(TakeCourseRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+
+        when(takeCourseRepository.findById(TAKE_COURSE_ID)).thenReturn(Optional.of(TakeCourse.builder()
+                .id(TAKE_COURSE_ID)
+                .courseId(COURSE_ID)
+                .userId(USER_ID)
+                .build()));
+
+        enrollmentEngine = new EnrollmentEngine(courseRepository, takeCourseRepository, new EnrollmentGate(), transactionManager);
+    }
+
+    private void setSeatLimit(long seatLimit) {
+        when(courseRepository.findById(COURSE_ID)).thenReturn(Optional.of(Course.builder()
+                .id(COURSE_ID)
+                .seatLimit(seatLimit)
+                .build()));
+    }
+
+    @Test
+    void enrollTakesSeatAndSaves() {
+
+        setSeatLimit(5);
+        when(courseRepository.decreaseSeatRemain(COURSE_ID)).thenReturn(1);
+
+        ServiceResult result = enrollmentEngine.enroll(COURSE_ID, USER_ID);
+
+        assertTrue(result.isResult());
+        verify(takeCourseRepository).saveAndFlush(any(TakeCourse.class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void enrollWithoutSeatLimitDoesNotTouchSeat() {
+
+        setSeatLimit(0);
+
+        ServiceResult result = enrollmentEngine.enroll(COURSE_ID, USER_ID);
+
+        assertTrue(result.isResult());
+        verify(courseRepository, never()).decreaseSeatRemain(anyLong());
+        verify(takeCourseRepository).saveAndFlush(any(TakeCourse.class));
+    }
+
+    @Test
+    void enrollSoldOutRollsBackAndMarksSoldOut() {
+
+        setSeatLimit(5);
+        when(courseRepository.decreaseSeatRemain(COURSE_ID)).thenReturn(0);
+
+        assertFalse(enrollmentEngine.enroll(COURSE_ID, USER_ID).isResult());
+        verify(takeCourseRepository, never()).saveAndFlush(any(TakeCourse.class));
+        verify(transactionManager).rollback(any());
+
+        //마감 표시된 동안은 DB 조회 없이 실패
+        assertFalse(enrollmentEngine.enroll(COURSE_ID, USER_ID).isResult());
+        verify(courseRepository, times(1)).findById(COURSE_ID);
+    }
+
+    @Test
+    void enrollDuplicateRollsBackSeat() {
+
+        setSeatLimit(5);
+        when(courseRepository.decreaseSeatRemain(COURSE_ID)).thenReturn(1);
+        when(takeCourseRepository.saveAndFlush(any(TakeCourse.class))).thenThrow(new DataIntegrityViolationException("ux_take_course_active"));
+
+        ServiceResult result = enrollmentEngine.enroll(COURSE_ID, USER_ID);
+
+        assertFalse(result.isResult());
+        assertEquals("이미 신청한 강좌 정보가 존재합니다.", result.getMessage());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void changeStatusOfActiveOnlyUpdatesStatus() {
+
+        when(takeCourseRepository.updateStatusIfActive(TAKE_COURSE_ID, TakeCourseCode.STATUS_COMPLETE)).thenReturn(1);
+
+        assertTrue(enrollmentEngine.changeStatus(TAKE_COURSE_ID, TakeCourseCode.STATUS_COMPLETE).isResult());
+        verify(takeCourseRepository, never()).updateStatusAndActivate(anyLong(), any());
+        verify(courseRepository, never()).decreaseSeatRemain(anyLong());
+    }
+
+    @Test
+    void reactivateTakesSeatOnce() {
+
+        setSeatLimit(5);
+        when(takeCourseRepository.updateStatusAndActivate(TAKE_COURSE_ID, TakeCourseCode.STATUS_REQ)).thenReturn(1);
+        when(courseRepository.decreaseSeatRemain(COURSE_ID)).thenReturn(1);
+
+        assertTrue(enrollmentEngine.changeStatus(TAKE_COURSE_ID, TakeCourseCode.STATUS_REQ).isResult());
+        verify(courseRepository, times(1)).decreaseSeatRemain(COURSE_ID);
+    }
+
+    @Test
+    void reactivateAlreadyActivatedDoesNotTakeSeat() {
+
+        //상태 확인 후 다른 요청이 먼저 살린 경우
+        setSeatLimit(5);
+        when(takeCourseRepository.updateStatusAndActivate(TAKE_COURSE_ID, TakeCourseCode.STATUS_REQ)).thenReturn(0);
+
+        assertTrue(enrollmentEngine.changeStatus(TAKE_COURSE_ID, TakeCourseCode.STATUS_REQ).isResult());
+        verify(courseRepository, never()).decreaseSeatRemain(anyLong());
+        verify(takeCourseRepository, times(2)).updateStatusIfActive(TAKE_COURSE_ID, TakeCourseCode.STATUS_REQ);
+    }
+
+    @Test
+    void reactivateOnSoldOutCourseRollsBack() {
+
+        setSeatLimit(5);
+        when(takeCourseRepository.updateStatusAndActivate(TAKE_COURSE_ID, TakeCourseCode.STATUS_REQ)).thenReturn(1);
+        when(courseRepository.decreaseSeatRemain(COURSE_ID)).thenReturn(0);
+
+        assertFalse(enrollmentEngine.changeStatus(TAKE_COURSE_ID, TakeCourseCode.STATUS_REQ).isResult());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void cancelReleasesSeatOnlyWhenDeactivated() {
+
+        when(takeCourseRepository.updateStatusAndDeactivate(TAKE_COURSE_ID, TakeCourseCode.STATUS_CANCEL)).thenReturn(1, 0);
+
+        assertTrue(enrollmentEngine.changeStatus(TAKE_COURSE_ID, TakeCourseCode.STATUS_CANCEL).isResult());
+        //이미 취소된 경우 상태만 변경
+        assertTrue(enrollmentEngine.changeStatus(TAKE_COURSE_ID, TakeCourseCode.STATUS_CANCEL).isResult());
+
+        verify(courseRepository, times(1)).increaseSeatRemain(COURSE_ID);
+        verify(takeCourseRepository, times(1)).updateStatusIfInactive(TAKE_COURSE_ID, TakeCourseCode.STATUS_CANCEL);
+    }
+
+    @Test
+    void batchCancelReleasesSeatsOncePerCourse() {
+
+        //3, 4 는 이미 취소된 수강(active_yn 이 null 이라 조회되지 않음)
+        List<Long> idList = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+        when(takeCourseRepository.findByIdInAndActiveYn(idList, true)).thenReturn(Arrays.asList(
+                TakeCourse.builder().id(1L).courseId(COURSE_ID).build(),
+                TakeCourse.builder().id(2L).courseId(COURSE_ID).build(),
+                TakeCourse.builder().id(5L).courseId(2L).build()));
+        when(takeCourseRepository.updateStatusAndDeactivate(Arrays.asList(1L, 2L, 5L), TakeCourseCode.STATUS_CANCEL)).thenReturn(3);
+
+        ServiceResult result = enrollmentEngine.changeStatus(idList, TakeCourseCode.STATUS_CANCEL);
+
+        assertTrue(result.isResult());
+        assertEquals("3건 처리되었습니다.", result.getMessage());
+        verify(courseRepository, times(1)).increaseSeatRemain(COURSE_ID, 2L);
+        verify(courseRepository, times(1)).increaseSeatRemain(2L, 1L);
+        verify(courseRepository, never()).increaseSeatRemain(anyLong());
+        verify(transactionManager, times(1)).commit(any());
+    }
+}
@@ -0,0 +1,355 @@
+package com.zerobase.fastlms.mail.service;
+
+import com.zerobase.fastlms.admin.mapper.MemberMapper;
+import com.zerobase.fastlms.components.MemberUserCache;
+import com.zerobase.fastlms.components.TotalCountCache;
+import com.zerobase.fastlms.mail.entity.MailOutbox;
+import com.zerobase.fastlms.mail.repository.MailOutboxRepository;
+import com.zerobase.fastlms.member.model.MemberInput;
+import com.zerobase.fastlms.member.repository.MemberRepository;
+import com.zerobase.fastlms.member.service.impl.MemberServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.internet.MimeMessage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 가짜 SMTP 서버로 메일 발송/재시도/발송실패, 회원가입이 SMTP 를 기다리지 않는지 확인
+ */
+class MailDispatcherTest {
+    
+    private FakeSmtpServer smtpServer;
+    private JavaMailSenderImpl javaMailSender;
+    
+    //DB 대신 메모리에 저장
+    private final List<MailOutbox> outboxList = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private MailOutboxRepository mailOutboxRepository;
+    
+    //발송 직전에 실행(발송중에 다른 서버가 다시 가져간 경우 등)
+    private volatile Runnable beforeSend = () -> {
+    };
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        
+        smtpServer = new FakeSmtpServer();
+        
+        javaMailSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                beforeSend.run();
+                super.send(mimeMessages);
+            }
+        };
+        javaMailSender.setHost("127.0.0.1");
+        javaMailSender.setPort(smtpServer.getPort());
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtp.from", "noreply@fastlms.test");
+        properties.setProperty("mail.smtp.connectiontimeout", "2000");
+        properties.setProperty("mail.smtp.timeout", "2000");
+        javaMailSender.setJavaMailProperties(properties);
+        
+        mailOutboxRepository = mock(MailOutboxRepository.class);
+        when(mailOutboxRepository.save(any(MailOutbox.class))).thenAnswer(invocation -> {
+            MailOutbox mailOutbox = invocation.getArgument(0);
+            mailOutbox.setId(sequence.incrementAndGet());
+            outboxList.add(mailOutbox);
+            return mailOutbox;
+        });
+        when(mailOutboxRepository.findTop20ByStatusAndNextTryDtLessThanEqualOrderByIdAsc(anyString(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> outboxList.stream()
+                        .filter(e -> e.getStatus().equals(invocation.getArgument(0))
+                                && !e.getNextTryDt().isAfter(invocation.getArgument(1)))
+                        .sorted(Comparator.comparing(MailOutbox::getId))
+                        .limit(20)
+                        .collect(Collectors.toList()));
+        when(mailOutboxRepository.claim(anyLong(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            for (MailOutbox x : outboxList) {
+                if (x.getId() == (long) invocation.getArgument(0) && MailOutbox.STATUS_READY.equals(x.getStatus())) {
+                    x.setStatus(MailOutbox.STATUS_SENDING);
+                    x.setNextTryDt(invocation.getArgument(1));
+                    return 1;
+                }
+            }
+            return 0;
+        });
+        when(mailOutboxRepository.markSent(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            MailOutbox x = findClaimed(invocation.getArgument(0), invocation.getArgument(1));
+            if (x == null) {
+                return 0;
+            }
+            x.setStatus(MailOutbox.STATUS_SENT);
+            x.setSentDt(invocation.getArgument(2));
+            x.setLastError(null);
+            return 1;
+        });
+        when(mailOutboxRepository.markFailed(anyLong(), any(LocalDateTime.class), anyString(), anyInt(), any(LocalDateTime.class), anyString())).thenAnswer(invocation -> {
+            MailOutbox x = findClaimed(invocation.getArgument(0), invocation.getArgument(1));
+            if (x == null) {
+                return 0;
+            }
+            x.setStatus(invocation.getArgument(2));
+            x.setRetryCount(invocation.getArgument(3));
+            x.setNextTryDt(invocation.getArgument(4));
+            x.setLastError(invocation.getArgument(5));
+            return 1;
+        });
+    }
+    
+    //where id = ? and status = 'SENDING' and next_try_dt = ?
+    private MailOutbox findClaimed(long id, LocalDateTime leaseDt) {
+        return outboxList.stream()
+                .filter(x -> x.getId() == id
+                        && MailOutbox.STATUS_SENDING.equals(x.getStatus())
+                        && leaseDt.equals(x.getNextTryDt()))
+                .findFirst()
+                .orElse(null);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        smtpServer.close();
+    }
+    
+    private MailOutbox ready(String mail) {
+        
+        return mailOutboxRepository.save(MailOutbox.builder()
+                .mail(mail)
+                .subject("제목")
+                .text("<p>내용</p>")
+                .status(MailOutbox.STATUS_READY)
+                .nextTryDt(LocalDateTime.now())
+                .regDt(LocalDateTime.now())
+                .build());
+    }
+    
+    @Test
+    void sendsReadyMailsOverOneConnection() {
+        
+        MailOutbox a = ready("a@fastlms.test");
+        MailOutbox b = ready("b@fastlms.test");
+        MailOutbox c = ready("c@fastlms.test");
+        
+        MailDispatcher mailDispatcher = new MailDispatcher(mailOutboxRepository, javaMailSender);
+        
+        assertEquals(3, mailDispatcher.dispatch());
+        assertEquals(0, mailDispatcher.dispatch());
+        
+        for (MailOutbox x : new MailOutbox[] {a, b, c}) {
+            assertEquals(MailOutbox.STATUS_SENT, x.getStatus());
+            assertNotNull(x.getSentDt());
+        }
+        assertEquals(1, smtpServer.connectionCount.get());
+        assertEquals(3, smtpServer.recipients.size());
+        assertTrue(smtpServer.recipients.contains("<b@fastlms.test>"));
+    }
+    
+    @Test
+    void retriesAndMovesToDeadLetter() {
+        
+        MailOutbox good = ready("good@fastlms.test");
+        MailOutbox bad = ready("bad@fastlms.test");
+        
+        MailDispatcher mailDispatcher = new MailDispatcher(mailOutboxRepository, javaMailSender);
+        mailDispatcher.dispatch();
+        
+        assertEquals(MailOutbox.STATUS_SENT, good.getStatus());
+        assertEquals(MailOutbox.STATUS_READY, bad.getStatus());
+        assertEquals(1, bad.getRetryCount());
+        assertTrue(bad.getNextTryDt().isAfter(LocalDateTime.now()));
+        assertNotNull(bad.getLastError());
+        
+        //재시도 시각 전에는 발송하지 않음
+        assertEquals(0, mailDispatcher.dispatch());
+        
+        for (int i = 1; i < MailDispatcher.MAX_RETRY; i++) {
+            bad.setNextTryDt(LocalDateTime.now());
+            mailDispatcher.dispatch();
+        }
+        
+        assertEquals(MailOutbox.STATUS_DEAD, bad.getStatus());
+        assertEquals(MailDispatcher.MAX_RETRY, bad.getRetryCount());
+        
+        bad.setNextTryDt(LocalDateTime.now());
+        assertEquals(0, mailDispatcher.dispatch());
+    }
+    
+    @Test
+    void retriesWhenServerIsDown() {
+        
+        MailOutbox a = ready("a@fastlms.test");
+        smtpServer.down = true;
+        
+        new MailDispatcher(mailOutboxRepository, javaMailSender).dispatch();
+        
+        assertEquals(MailOutbox.STATUS_READY, a.getStatus());
+        assertEquals(1, a.getRetryCount());
+        assertNull(a.getSentDt());
+        assertEquals(0, smtpServer.recipients.size());
+    }
+    
+    @Test
+    void doesNotOverwriteMailReclaimedByOtherServer() {
+        
+        MailOutbox a = ready("a@fastlms.test");
+        
+        //발송중 만료 후 다른 서버가 다시 가져감
+        LocalDateTime otherLeaseDt = LocalDateTime.now().plusMinutes(10);
+        beforeSend = () -> a.setNextTryDt(otherLeaseDt);
+        
+        assertEquals(1, new MailDispatcher(mailOutboxRepository, javaMailSender).dispatch());
+        
+        assertEquals(MailOutbox.STATUS_SENDING, a.getStatus());
+        assertEquals(otherLeaseDt, a.getNextTryDt());
+        assertNull(a.getSentDt());
+    }
+    
+    @Test
+    void registerDoesNotWaitForSmtp() {
+        
+        smtpServer.delayMillis = 3000;
+        
+        MailDispatcher mailDispatcher = mock(MailDispatcher.class);
+        MailOutboxService mailOutboxService = new MailOutboxServiceImpl(mailOutboxRepository, mailDispatcher);
+        
+        MemberServiceImpl memberService = new MemberServiceImpl(mock(MemberRepository.class)
+                , mailOutboxService
+                , mock(MemberMapper.class)
+                , new TotalCountCache()
+                , new MemberUserCache());
+        
+        MemberInput parameter = new MemberInput();
+        parameter.setUserId("new@fastlms.test");
+        parameter.setUserName("회원");
+        parameter.setPassword("1111");
+        
+        long start = System.currentTimeMillis();
+        assertTrue(memberService.register(parameter));
+        long elapsed = System.currentTimeMillis() - start;
+        
+        assertTrue(elapsed < smtpServer.delayMillis, "elapsed " + elapsed);
+        assertEquals(0, smtpServer.connectionCount.get());
+        assertEquals(1, outboxList.size());
+        assertEquals("new@fastlms.test", outboxList.get(0).getMail());
+        assertEquals(MailOutbox.STATUS_READY, outboxList.get(0).getStatus());
+        verify(mailDispatcher, times(1)).wakeUp();
+    }
+    
+    /**
+     * 메일을 저장만 하는 SMTP 서버, bad 로 시작하는 수신자는 거부
+     * - down 이면 접속하자마자 421 응답 후 연결 종료(서버 장애)
+     */
+    private static class FakeSmtpServer {
+        
+        private final ServerSocket serverSocket;
+        private final AtomicInteger connectionCount = new AtomicInteger();
+        private final List<String> recipients = new CopyOnWriteArrayList<>();
+        private volatile long delayMillis = 0;
+        private volatile boolean down = false;
+        
+        FakeSmtpServer() throws IOException {
+            
+            serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+            Thread thread = new Thread(() -> {
+                while (!serverSocket.isClosed()) {
+                    try {
+                        Socket socket = serverSocket.accept();
+                        connectionCount.incrementAndGet();
+                        new Thread(() -> handle(socket)).start();
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+        
+        void close() {
+            try {
+                serverSocket.close();
+            } catch (IOException e) {
+            }
+        }
+        
+        private void handle(Socket socket) {
+            
+            try (Socket s = socket) {
+                Thread.sleep(delayMillis);
+                
+                BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+                OutputStream out = s.getOutputStream();
+                
+                if (down) {
+                    write(out, "421 service not available");
+                    return;
+                }
+                
+                write(out, "220 fake smtp");
+                String recipient = null;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String command = line.toUpperCase();
+                    if (command.startsWith("RCPT TO:")) {
+                        recipient = line.substring("RCPT TO:".length()).trim();
+                        write(out, recipient.startsWith("<bad") ? "550 no such user" : "250 OK");
+                    } else if (command.equals("DATA")) {
+                        write(out, "354 end with .");
+                        while (!".".equals(reader.readLine())) {
+                            //본문은 저장하지 않음
+                        }
+                        recipients.add(recipient);
+                        write(out, "250 OK");
+                    } else if (command.equals("QUIT")) {
+                        write(out, "221 bye");
+                        return;
+                    } else {
+                        //EHLO, MAIL FROM, RSET, NOOP
+                        write(out, "250 OK");
+                    }
+                }
+            } catch (IOException e) {
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        private void write(OutputStream out, String line) throws IOException {
+            out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+    }
+}
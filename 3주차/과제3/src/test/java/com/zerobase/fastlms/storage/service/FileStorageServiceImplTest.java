@@ -0,0 +1,200 @@
+package com.zerobase.fastlms.storage.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.zerobase.fastlms.storage.StorageProperties;
+import com.zerobase.fastlms.storage.backend.LocalStorageBackend;
+import com.zerobase.fastlms.storage.backend.S3StorageBackend;
+import com.zerobase.fastlms.storage.exception.FileStorageException;
+import com.zerobase.fastlms.storage.model.StoredFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 저장소, 로컬 스텁 서버(S3 대신)로 파일 저장/중복 제거/크기 제한 확인
+ */
+class FileStorageServiceImplTest {
+    
+    //sha256("hello fastlms")
+    private static final String HELLO_SHA256 = "c1cbb8d2a639b2ede42655b44fe93af096378ddc1116977ea83d0da8078e028f";
+    
+    @TempDir
+    Path baseDir;
+    
+    //제공 경로(root)와 업로드 임시파일 경로(tempDir)는 따로
+    private Path root;
+    private Path tempDir;
+    
+    private HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> headers = new ConcurrentHashMap<>();
+    private final AtomicInteger putCount = new AtomicInteger();
+    
+    private StorageProperties storageProperties;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        
+        root = Files.createDirectories(baseDir.resolve("files"));
+        tempDir = baseDir.resolve("files-tmp");
+        
+        storageProperties = new StorageProperties();
+        storageProperties.setRoot(root.toString());
+        storageProperties.setTempDir(tempDir.toString());
+        storageProperties.setMaxFileSize(DataSize.ofBytes(1024));
+        
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        
+        StorageProperties.S3 s3 = storageProperties.getS3();
+        s3.setEndpoint("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        s3.setBucket("fastlms");
+        s3.setAccessKey("test");
+        s3.setSecretKey("test");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        
+        String path = exchange.getRequestURI().getPath();
+        int status = 200;
+        switch (exchange.getRequestMethod()) {
+            case "PUT":
+                putCount.incrementAndGet();
+                headers.put("Authorization", String.valueOf(exchange.getRequestHeaders().getFirst("Authorization")));
+                headers.put("x-amz-content-sha256", String.valueOf(exchange.getRequestHeaders().getFirst("x-amz-content-sha256")));
+                objects.put(path, StreamUtils.copyToByteArray(exchange.getRequestBody()));
+                break;
+            case "HEAD":
+                status = objects.containsKey(path) ? 200 : 404;
+                break;
+            default:
+                status = 405;
+        }
+        //응답 후 연결 종료(스텁 서버가 HEAD 응답 후 keep-alive 연결을 닫아서 다음 PUT 이 실패하는 경우 방지)
+        exchange.getResponseHeaders().add("Connection", "close");
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+    
+    private FileStorageService newLocalService() {
+        return new FileStorageServiceImpl(new LocalStorageBackend(root, "/files"), storageProperties);
+    }
+    
+    private FileStorageService newS3Service() {
+        return new FileStorageServiceImpl(new S3StorageBackend(storageProperties.getS3()), storageProperties);
+    }
+    
+    private static MockMultipartFile upload(String filename, String content) {
+        return new MockMultipartFile("file", filename, "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static long countFiles(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return 0;
+        }
+        try (Stream<Path> stream = Files.walk(dir)) {
+            return stream.filter(Files::isRegularFile).count();
+        }
+    }
+    
+    @Test
+    void storesLocalFileByContentHash() throws IOException {
+        
+        StoredFile storedFile = newLocalService().store(upload("Photo.PNG", "hello fastlms"));
+        
+        assertEquals(HELLO_SHA256, storedFile.getSha256());
+        assertEquals(13, storedFile.getSize());
+        assertEquals("/files/c1/" + HELLO_SHA256 + ".png", storedFile.getUrlFilename());
+        assertEquals("hello fastlms", new String(Files.readAllBytes(Paths.get(storedFile.getFilename())), StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void deduplicatesSameContent() throws IOException {
+        
+        FileStorageService fileStorageService = newLocalService();
+        
+        StoredFile a = fileStorageService.store(upload("a.png", "hello fastlms"));
+        StoredFile b = fileStorageService.store(upload("b.png", "hello fastlms"));
+        StoredFile c = fileStorageService.store(upload("c.png", "other"));
+        
+        assertEquals(a.getFilename(), b.getFilename());
+        assertNotEquals(a.getFilename(), c.getFilename());
+        
+        //임시파일은 남지 않음
+        assertEquals(2, countFiles(root));
+        assertEquals(0, countFiles(tempDir));
+    }
+    
+    @Test
+    void rejectsTooLargeFile() throws IOException {
+        
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append('x');
+        }
+        
+        assertThrows(FileStorageException.class, () -> newLocalService().store(upload("big.png", sb.toString())));
+        assertEquals(0, countFiles(root));
+        assertEquals(0, countFiles(tempDir));
+    }
+    
+    @Test
+    void ignoresEmptyFileAndUnsafeExtension() {
+        
+        FileStorageService fileStorageService = newLocalService();
+        
+        assertNull(fileStorageService.store(null));
+        assertNull(fileStorageService.store(upload("empty.png", "")));
+        
+        StoredFile storedFile = fileStorageService.store(upload("../../evil.p/h?p", "hello fastlms"));
+        assertEquals("/files/c1/" + HELLO_SHA256, storedFile.getUrlFilename());
+    }
+    
+    @Test
+    void storesToS3CompatibleServer() throws IOException {
+        
+        FileStorageService fileStorageService = newS3Service();
+        
+        StoredFile a = fileStorageService.store(upload("a.png", "hello fastlms"));
+        StoredFile b = fileStorageService.store(upload("b.png", "hello fastlms"));
+        
+        String key = "c1/" + HELLO_SHA256 + ".png";
+        assertEquals("s3://fastlms/" + key, a.getFilename());
+        assertEquals(storageProperties.getS3().getEndpoint() + "fastlms/" + key, a.getUrlFilename());
+        assertEquals(a.getFilename(), b.getFilename());
+        
+        //같은 내용은 한번만 업로드
+        assertEquals(1, putCount.get());
+        assertArrayEquals("hello fastlms".getBytes(StandardCharsets.UTF_8), objects.get("/fastlms/" + key));
+        assertEquals(HELLO_SHA256, headers.get("x-amz-content-sha256"));
+        assertTrue(headers.get("Authorization").startsWith("AWS4-HMAC-SHA256 Credential=test/"));
+        
+        //업로드 후 임시파일은 남지 않음
+        assertEquals(0, countFiles(root));
+        assertEquals(0, countFiles(tempDir));
+    }
+}